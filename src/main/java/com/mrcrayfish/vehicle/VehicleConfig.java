@@ -41,11 +41,6 @@ public class VehicleConfig
         @Config.LangKey(Reference.MOD_ID + ".config.server.trailer_detach_threshold")
         public double trailerDetachThreshold = 6.0;
 
-        @Config.Name("Trailer Sync Cooldown")
-        @Config.Comment("The amount of ticks to wait before syncing data to clients about the trailer connection. This is important for smooth trailer movement on client side.")
-        @Config.LangKey(Reference.MOD_ID + ".config.server.trailer_sync_cooldown")
-        public int trailerSyncCooldown = 100;
-
         @Config.Name("Trailer Inventory Sync Cooldown")
         @Config.Comment("The amount of ticks to wait before syncing trailer inventory to tracking clients. If the value is set to 0 or less, the inventory will not sync and will save on network usage.")
         @Config.LangKey(Reference.MOD_ID + ".config.server.trailer_inventory_sync_cooldown")
@@ -78,6 +73,12 @@ public class VehicleConfig
         @Config.LangKey(Reference.MOD_ID + ".config.server.fuel_consumption_modifier")
         @Config.RangeDouble(min = 0.0)
         public double fuelConsumptionFactor = 1.0;
+
+        @Config.Name("Network Stats Log Interval")
+        @Config.Comment("The amount of seconds between logging the network traffic of each vehicle message. The current totals can also be seen with /vehicle netstats. Set to 0 to disable logging")
+        @Config.LangKey(Reference.MOD_ID + ".config.server.net_stats_log_interval")
+        @Config.RangeInt(min = 0)
+        public int netStatsLogInterval = 0;
         
         @Config.Name("Vehicles")
         @Config.Comment("Config for separate vehicle")
@@ -254,6 +255,18 @@ public class VehicleConfig
         @Config.LangKey(Reference.MOD_ID + ".config.client.display.hose_segments")
         @Config.RangeInt(min = 1, max = 100)
         public int hoseSegments = 10;
+
+        @Config.Name("Reduced Detail Distance")
+        @Config.Comment("The distance in blocks after which vehicles are rendered without small parts such as the engine, fuel port, key port and tow bar, and without spinning wheels. Set to 0 to disable")
+        @Config.LangKey(Reference.MOD_ID + ".config.client.display.reduced_detail_distance")
+        @Config.RangeDouble(min = 0.0)
+        public double reducedDetailDistance = 32.0;
+
+        @Config.Name("Low Detail Distance")
+        @Config.Comment("The distance in blocks after which vehicle bodies are rendered from a cached mesh and are no longer animated. Set to 0 to disable")
+        @Config.LangKey(Reference.MOD_ID + ".config.client.display.low_detail_distance")
+        @Config.RangeDouble(min = 0.0)
+        public double lowDetailDistance = 64.0;
     }
 
     public static class Controller
@@ -280,6 +293,11 @@ public class VehicleConfig
         @Config.Comment("If true, the vehicle properties will be reloaded each tick.")
         @Config.LangKey(Reference.MOD_ID + ".config.client.debug.raytracer.vehicle_properties_reload")
         public boolean reloadVehiclePropertiesEachTick = false;
+
+        @Config.Name("Show Level of Detail")
+        @Config.Comment("If true, the debug screen shows how many vehicles were rendered at each level of detail in the last frame.")
+        @Config.LangKey(Reference.MOD_ID + ".config.client.debug.level_of_detail")
+        public boolean showLevelOfDetail = false;
     }
 
     @SubscribeEvent
@@ -2,15 +2,19 @@ package com.mrcrayfish.vehicle;
 
 import com.mrcrayfish.vehicle.block.BlockVehicleCrate;
 import com.mrcrayfish.vehicle.client.gui.GuiHandler;
+import com.mrcrayfish.vehicle.command.CommandVehicle;
 import com.mrcrayfish.vehicle.common.CommonEvents;
+import com.mrcrayfish.vehicle.common.VehicleCollisionHandler;
 import com.mrcrayfish.vehicle.common.entity.HeldVehicleDataHandler;
 import com.mrcrayfish.vehicle.common.entity.SyncedPlayerData;
+import com.mrcrayfish.vehicle.crafting.FluidMixerRecipes;
 import com.mrcrayfish.vehicle.entity.CustomDataSerializers;
 import com.mrcrayfish.vehicle.entity.EntityJack;
 import com.mrcrayfish.vehicle.entity.EntityVehicle;
 import com.mrcrayfish.vehicle.entity.VehicleProperties;
 import com.mrcrayfish.vehicle.entity.trailer.*;
 import com.mrcrayfish.vehicle.entity.vehicle.*;
+import com.mrcrayfish.vehicle.fluid.FluidNetworkManager;
 import com.mrcrayfish.vehicle.init.ModFluids;
 import com.mrcrayfish.vehicle.init.ModItems;
 import com.mrcrayfish.vehicle.init.ModTileEntities;
@@ -30,6 +34,7 @@ import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.registry.EntityRegistry;
 
@@ -79,6 +84,8 @@ public class VehicleMod
         PacketHandler.init();
         CustomDataSerializers.register();
         HeldVehicleDataHandler.register();
+        VehicleCollisionHandler.register();
+        FluidNetworkManager.register();
         ModTileEntities.register();
         registerVehicles();
         VehicleProperties.register();
@@ -96,9 +103,16 @@ public class VehicleMod
     @Mod.EventHandler
     public void onPostInit(FMLPostInitializationEvent event)
     {
+        FluidMixerRecipes.getInstance().buildIndex();
         proxy.postInit();
     }
 
+    @Mod.EventHandler
+    public void onServerStarting(FMLServerStartingEvent event)
+    {
+        event.registerServerCommand(new CommandVehicle());
+    }
+
     private void registerVehicles()
     {
         registerVehicle("atv", EntityATV.class);
@@ -2,6 +2,7 @@ package com.mrcrayfish.vehicle.client;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.mrcrayfish.vehicle.Reference;
 import com.mrcrayfish.vehicle.VehicleConfig;
 import com.mrcrayfish.vehicle.common.CommonEvents;
 import com.mrcrayfish.vehicle.common.entity.PartPosition;
@@ -37,6 +38,7 @@ import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.RayTraceResult.Type;
 import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.client.event.MouseEvent;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -46,11 +48,14 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.lwjgl.opengl.GL11;
 
 import javax.annotation.Nullable;
 import javax.vecmath.AxisAngle4d;
 import javax.vecmath.Matrix4d;
+import javax.vecmath.SingularMatrixException;
 import javax.vecmath.Vector3d;
 import javax.vecmath.Vector4d;
 import java.util.*;
@@ -66,6 +71,8 @@ import java.util.function.Function;
 @EventBusSubscriber(Side.CLIENT)
 public class EntityRaytracer
 {
+    private static final Logger LOGGER = LogManager.getLogger(Reference.MOD_ID);
+
     /**
      * Whether or not this class has been initialized
      */
@@ -81,6 +88,11 @@ public class EntityRaytracer
      */
     private static final Map<Class<? extends IEntityRaytraceable>, Map<RayTracePart, TriangleRayTraceList>> entityRaytraceTrianglesDynamic = Maps.newHashMap();
 
+    /**
+     * Raytraceable entities that were found to have no static parts, so they aren't searched for again on every raytrace
+     */
+    private static final Set<Class<? extends Entity>> entityClassesWithoutStaticParts = new HashSet<>();
+
     /**
      * Contains all data in entityRaytraceTrianglesStatic and entityRaytraceTrianglesDynamic
      */
@@ -92,6 +104,23 @@ public class EntityRaytracer
     private static final Map<Class<? extends Entity>, Pair<Float, Float>> entityCrateScalesAndOffsets = new HashMap<>();
     private static final Pair<Float, Float> SCALE_AND_OFFSET_DEFAULT = new ImmutablePair<>(0.25F, 0.0F);
 
+    /**
+     * Static parts in the order their triangles are stored in the cache, and the key that hashes everything those triangles are generated from
+     */
+    private static final List<StaticPart> staticParts = Lists.newArrayList();
+    private static long staticPartsKey;
+
+    /**
+     * The most recently loaded or generated triangles for the static parts, which are reused while the key doesn't change
+     */
+    private static List<TriangleRayTraceList> staticTriangles;
+    private static long staticTrianglesKey;
+
+    /**
+     * Key of the static triangles currently being generated on a background thread, if any
+     */
+    private static Long buildingKey;
+
     /**
      * Nearest common superclass shared by all raytraceable entity classes
      */
@@ -120,6 +149,12 @@ public class EntityRaytracer
      */
     private static int continuousInteractionTickCounter;
 
+    /**
+     * Debug counters for the raytraces, triangle tests, and object allocations of the current tick, and the totals of the previous tick
+     */
+    private static int raytraceCount, triangleTestCount, allocationCount;
+    private static int lastRaytraceCount, lastTriangleTestCount, lastAllocationCount;
+
     /**
      * Clears registration data and triggers re-registration in the next client tick
      */
@@ -127,8 +162,10 @@ public class EntityRaytracer
     {
         entityRaytraceTrianglesStatic.clear();
         entityRaytraceTrianglesDynamic.clear();
+        entityClassesWithoutStaticParts.clear();
         entityRaytraceTriangles.clear();
         entityCrateScalesAndOffsets.clear();
+        staticParts.clear();
         entityRaytraceSuperclass = null;
         initialized = false;
     }
@@ -881,7 +918,12 @@ public class EntityRaytracer
         registerEntitiesDynamic();
         registerEntitiesStatic();
 
-        for (Class raytraceClass : entityRaytraceTriangles.keySet())
+        Set<Class<? extends IEntityRaytraceable>> raytraceClasses = new LinkedHashSet<>(entityRaytraceTriangles.keySet());
+        for (StaticPart staticPart : staticParts)
+        {
+            raytraceClasses.add(staticPart.raytraceClass);
+        }
+        for (Class raytraceClass : raytraceClasses)
         {
             // Find nearest common superclass
             if (entityRaytraceSuperclass != null)
@@ -901,13 +943,42 @@ public class EntityRaytracer
             {
                 entityRaytraceSuperclass = raytraceClass;
             }
+        }
 
+        // Use the static triangles from memory or the cache, or generate them in the background while raytraces generate them per class as needed
+        staticPartsKey = getStaticPartsKey();
+        if (staticTriangles == null || staticTrianglesKey != staticPartsKey)
+        {
+            List<float[]> cachedTriangles = RaytraceCache.read(staticPartsKey);
+            if (cachedTriangles != null && cachedTriangles.size() == staticParts.size())
+            {
+                setStaticTriangles(staticPartsKey, readTriangleSets(cachedTriangles));
+            }
+            else if (buildingKey == null || buildingKey != staticPartsKey)
+            {
+                buildStaticTriangles();
+            }
+        }
+        if (staticTriangles != null && staticTrianglesKey == staticPartsKey)
+        {
+            registerStaticTriangles();
+        }
+        initialized = true;
+    }
+
+    /**
+     * Calculates the scales and offsets for rendering the raytraceable entities in crates
+     */
+    private static void calculateCrateScalesAndOffsets()
+    {
+        for (Class raytraceClass : entityRaytraceTriangles.keySet())
+        {
             // Calculate scale and offset for rendering the entity in a crate
             float min = 0;
             float max = 0;
             float[] data;
             float x, y, z;
-            Entity entity = EntityList.newEntity(raytraceClass, Minecraft.getMinecraft().world);
+            Entity entity = entityRaytraceTrianglesDynamic.containsKey(raytraceClass) ? EntityList.newEntity(raytraceClass, Minecraft.getMinecraft().world) : null;
             for (Entry<RayTracePart, TriangleRayTraceList> entry : entityRaytraceTriangles.get(raytraceClass).entrySet())
             {
                 for (TriangleRayTrace triangle : entity == null ? entry.getValue().getTriangles() : entry.getValue().getTriangles(entry.getKey(), entity))
@@ -930,7 +1001,177 @@ public class EntityRaytracer
             float range = max - min;
             entityCrateScalesAndOffsets.put(raytraceClass, new ImmutablePair<>(1 / (range * 1.25F), -(min + range * 0.5F)));
         }
-        initialized = true;
+    }
+
+    /**
+     * Hashes everything the static triangles are generated from: the parts, their transformation matrices (which include the vehicle properties),
+     * and the vertex data of their models (which includes the model JSONs and any resource pack overrides)
+     * 
+     * @return key of the static triangles
+     */
+    private static long getStaticPartsKey()
+    {
+        long key = 0xcbf29ce484222325L;
+        key = hash(key, staticParts.size());
+        for (StaticPart staticPart : staticParts)
+        {
+            key = hash(key, staticPart.raytraceClass.getName().hashCode());
+            key = hash(key, staticPart.sortKey.hashCode());
+            try
+            {
+                key = hashQuads(key, staticPart.model.getQuads(null, null, 0L));
+                for (EnumFacing facing : EnumFacing.values())
+                {
+                    key = hashQuads(key, staticPart.model.getQuads(null, facing, 0L));
+                }
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Unable to hash the model of raytrace part {} of {}, its cached triangles may be outdated", staticPart.sortKey, staticPart.raytraceClass.getSimpleName(), e);
+            }
+        }
+        return key;
+    }
+
+    private static long hashQuads(long key, List<BakedQuad> quads)
+    {
+        key = hash(key, quads.size());
+        for (BakedQuad quad : quads)
+        {
+            key = hash(key, quad.getFormat().getIntegerSize());
+            key = hash(key, Arrays.hashCode(quad.getVertexData()));
+        }
+        return key;
+    }
+
+    private static long hash(long key, int value)
+    {
+        return (key ^ value) * 0x100000001b3L;
+    }
+
+    /**
+     * Generates the static triangles on a background thread, then hands them to the client thread and writes them to the cache
+     */
+    private static void buildStaticTriangles()
+    {
+        long key = staticPartsKey;
+        List<StaticPart> parts = new ArrayList<>(staticParts);
+        buildingKey = key;
+        Thread thread = new Thread(() ->
+        {
+            List<TriangleRayTraceList> triangles = new ArrayList<>(parts.size());
+            List<float[]> triangleSets = new ArrayList<>(parts.size());
+            for (StaticPart staticPart : parts)
+            {
+                List<TriangleRayTrace> partTriangles = generateTriangles(staticPart.model, staticPart.matrix);
+                float[] data = new float[partTriangles.size() * 9];
+                for (int i = 0; i < partTriangles.size(); i++)
+                {
+                    System.arraycopy(partTriangles.get(i).getData(), 0, data, i * 9, 9);
+                }
+                triangles.add(new TriangleRayTraceList(partTriangles));
+                triangleSets.add(data);
+            }
+            Minecraft.getMinecraft().addScheduledTask(() ->
+            {
+                if (buildingKey != null && buildingKey == key)
+                {
+                    buildingKey = null;
+                }
+                setStaticTriangles(key, triangles);
+                if (initialized && staticPartsKey == key)
+                {
+                    registerStaticTriangles();
+                }
+            });
+            RaytraceCache.write(key, triangleSets);
+        }, "Vehicle Raytracer Cache");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Converts the flattened triangle data of each static part read from the cache into triangle lists
+     * 
+     * @param triangleSets flattened triangle data of each part
+     * 
+     * @return triangle list of each part
+     */
+    private static List<TriangleRayTraceList> readTriangleSets(List<float[]> triangleSets)
+    {
+        List<TriangleRayTraceList> triangles = new ArrayList<>(triangleSets.size());
+        for (float[] data : triangleSets)
+        {
+            List<TriangleRayTrace> partTriangles = new ArrayList<>(data.length / 9);
+            for (int i = 0; i + 9 <= data.length; i += 9)
+            {
+                partTriangles.add(new TriangleRayTrace(Arrays.copyOfRange(data, i, i + 9)));
+            }
+            triangles.add(new TriangleRayTraceList(partTriangles));
+        }
+        return triangles;
+    }
+
+    /**
+     * Gets the static triangles of a raytraceable entity class. While they are still being generated in the background, the triangles of
+     * that class's parts are generated on the spot and used until the background generation finishes, so raytraces keep working meanwhile
+     * 
+     * @param raytraceClass class of entity
+     * 
+     * @return triangles for each static part of the class, or null if it has none
+     */
+    @Nullable
+    private static Map<RayTracePart, TriangleRayTraceList> getStaticTriangles(Class<? extends Entity> raytraceClass)
+    {
+        Map<RayTracePart, TriangleRayTraceList> partTriangles = entityRaytraceTrianglesStatic.get(raytraceClass);
+        if (partTriangles == null && initialized && !entityClassesWithoutStaticParts.contains(raytraceClass))
+        {
+            for (StaticPart staticPart : staticParts)
+            {
+                if (staticPart.raytraceClass == raytraceClass)
+                {
+                    if (partTriangles == null)
+                    {
+                        partTriangles = Maps.newHashMap();
+                        entityRaytraceTrianglesStatic.put(staticPart.raytraceClass, partTriangles);
+                    }
+                    partTriangles.put(staticPart.part, new TriangleRayTraceList(generateTriangles(staticPart.model, staticPart.matrix)));
+                }
+            }
+            if (partTriangles == null)
+            {
+                entityClassesWithoutStaticParts.add(raytraceClass);
+            }
+        }
+        return partTriangles;
+    }
+
+    private static void setStaticTriangles(long key, List<TriangleRayTraceList> triangles)
+    {
+        staticTriangles = triangles;
+        staticTrianglesKey = key;
+    }
+
+    /**
+     * Registers the current static triangles to the static parts, merges them with the dynamic triangles, and calculates the crate scales and offsets
+     */
+    private static void registerStaticTriangles()
+    {
+        for (int i = 0; i < staticParts.size(); i++)
+        {
+            StaticPart staticPart = staticParts.get(i);
+            entityRaytraceTrianglesStatic.computeIfAbsent(staticPart.raytraceClass, raytraceClass -> Maps.newHashMap()).put(staticPart.part, staticTriangles.get(i));
+        }
+        for (Entry<Class<? extends IEntityRaytraceable>, Map<RayTracePart, TriangleRayTraceList>> entry : entityRaytraceTrianglesStatic.entrySet())
+        {
+            Map<RayTracePart, TriangleRayTraceList> partTriangles = new HashMap<>(entry.getValue());
+            Map<RayTracePart, TriangleRayTraceList> partTrianglesDynamic = entityRaytraceTrianglesDynamic.get(entry.getKey());
+            if (partTrianglesDynamic != null)
+                partTriangles.putAll(partTrianglesDynamic);
+
+            entityRaytraceTriangles.put(entry.getKey(), partTriangles);
+        }
+        calculateCrateScalesAndOffsets();
     }
 
     /**
@@ -941,7 +1182,7 @@ public class EntityRaytracer
      */
     private static void registerEntityStatic(Class<? extends IEntityRaytraceable> raytraceClass, Map<RayTracePart, List<MatrixTransformation>> transforms)
     {
-        Map<RayTracePart, TriangleRayTraceList> partTriangles = Maps.newHashMap();
+        List<StaticPart> parts = Lists.newArrayList();
         for (Entry<RayTracePart, List<MatrixTransformation>> entryPart : transforms.entrySet())
         {
             RayTracePart part = entryPart.getKey();
@@ -954,15 +1195,12 @@ public class EntityRaytracer
 
             finalizePartStackMatrix(matrix);
 
-            partTriangles.put(part, new TriangleRayTraceList(generateTriangles(getModel(part), matrix)));
+            parts.add(new StaticPart(raytraceClass, part, matrix, getModel(part)));
         }
-        entityRaytraceTrianglesStatic.put(raytraceClass, partTriangles);
-        HashMap partTrianglesCopy = new HashMap<>(partTriangles);
-        Map<RayTracePart, TriangleRayTraceList> partTrianglesAll = entityRaytraceTriangles.get(raytraceClass);
-        if (partTrianglesAll != null)
-            partTrianglesCopy.putAll(partTrianglesAll);
 
-        entityRaytraceTriangles.put(raytraceClass, partTrianglesCopy);
+        // The parts are mapped by identity, so they are sorted to store their triangles in the same order every time
+        parts.sort(Comparator.comparing(staticPart -> staticPart.sortKey));
+        staticParts.addAll(parts);
     }
 
     /**
@@ -1221,6 +1459,11 @@ public class EntityRaytracer
         if (event.phase != Phase.START)
             return;
 
+        lastRaytraceCount = raytraceCount;
+        lastTriangleTestCount = triangleTestCount;
+        lastAllocationCount = allocationCount;
+        raytraceCount = triangleTestCount = allocationCount = 0;
+
         if ((!initialized || VehicleConfig.CLIENT.debug.reloadRaytracerEachTick) && Minecraft.getMinecraft().world != null)
             init();
 
@@ -1311,7 +1554,7 @@ public class EntityRaytracer
         double distance;
         for (Entity entity : Minecraft.getMinecraft().world.getEntitiesWithinAABB(entityRaytraceSuperclass, box))
         {
-            if (entityRaytraceTrianglesDynamic.keySet().contains(entity.getClass()) || entityRaytraceTrianglesStatic.keySet().contains(entity.getClass()))
+            if (entityRaytraceTrianglesDynamic.keySet().contains(entity.getClass()) || getStaticTriangles(entity.getClass()) != null)
             {
                 lookObjectPutative = rayTraceEntityRotated((IEntityRaytraceable) entity, eyeVec, forwardVec, reach, rightClick);
                 if (lookObjectPutative != null)
@@ -1388,6 +1631,7 @@ public class EntityRaytracer
     @Nullable
     public static RayTraceResultRotated rayTraceEntityRotated(IEntityRaytraceable boxProvider, Vec3d eyeVec, Vec3d forwardVec, double reach, boolean rightClick)
     {
+        raytraceCount++;
         Entity entity = (Entity) boxProvider;
         Vec3d pos = entity.getPositionVector();
         double angle = Math.toRadians(-entity.rotationYaw);
@@ -1419,7 +1663,7 @@ public class EntityRaytracer
         {
             lookBox = raytracePartTriangles(entity, pos, eyeVecRotated, lookBox, distanceShortest, eyes, direction, boxesApplicable, false, boxProvider.getStaticInteractionBoxMap());
             distanceShortest = updateShortestDistance(lookBox, distanceShortest);
-            lookPart = raytracePartTriangles(entity, pos, eyeVecRotated, lookPart, distanceShortest, eyes, direction, partsNonApplicable, true, entityRaytraceTrianglesStatic.get(entity.getClass()));
+            lookPart = raytracePartTriangles(entity, pos, eyeVecRotated, lookPart, distanceShortest, eyes, direction, partsNonApplicable, true, getStaticTriangles(entity.getClass()));
         }
         // Return the result object of hit with hit vector rotated back in the same direction as the entity's rotation yaw, or null it no hit occurred
         if (lookPart != null)
@@ -1471,20 +1715,22 @@ public class EntityRaytracer
                 if (partsApplicable == null || (invalidateParts != partsApplicable.contains(entry.getKey())))
                 {
                     RayTraceResultTriangle lookObjectPutative;
-                    double distance;
                     RayTracePart part = entry.getKey();
-                    for (TriangleRayTrace triangle : entry.getValue().getTriangles(part, entity))
+                    TriangleRayTraceList triangles = entry.getValue();
+
+                    // Static triangles are tested through their hierarchy, which also rejects the whole part if its bounds are missed
+                    if (triangles.hierarchy != null)
                     {
-                        lookObjectPutative = RayTraceResultTriangle.calculateIntercept(eyes, direction, pos, triangle.getData(), part);
-                        if (lookObjectPutative != null)
-                        {
-                            distance = lookObjectPutative.calculateAndSaveDistance(eyeVecRotated);
-                            if (distance < distanceShortest)
-                            {
-                                lookPart = lookObjectPutative;
-                                distanceShortest = distance;
-                            }
-                        }
+                        lookObjectPutative = triangles.hierarchy.raytrace(eyes, direction, pos, eyeVecRotated, distanceShortest, part);
+                    }
+                    else
+                    {
+                        lookObjectPutative = triangles.raytraceDynamic(part, entity, eyes, direction, pos, eyeVecRotated, distanceShortest);
+                    }
+                    if (lookObjectPutative != null)
+                    {
+                        lookPart = lookObjectPutative;
+                        distanceShortest = lookObjectPutative.getDistance();
                     }
                 }
             }
@@ -1549,6 +1795,21 @@ public class EntityRaytracer
         }
     }
 
+    /**
+     * <strong>Debug Method:</strong> Adds the raytrace counters of the previous tick to the debug screen while outlines are rendered
+     * 
+     * @param event debug text event
+     */
+    @SubscribeEvent
+    public static void renderRaytraceStats(RenderGameOverlayEvent.Text event)
+    {
+        if (VehicleConfig.CLIENT.debug.renderOutlines && Minecraft.getMinecraft().gameSettings.showDebugInfo)
+        {
+            event.getLeft().add("");
+            event.getLeft().add(String.format("Vehicle Raytracer: %d raytraces, %d triangle tests, %d allocations", lastRaytraceCount, lastTriangleTestCount, lastAllocationCount));
+        }
+    }
+
     /**
      * Renders the triangles of the parts of a raytraceable entity
      * 
@@ -1674,6 +1935,35 @@ public class EntityRaytracer
         }
     }
 
+    /**
+     * A static part of a raytraceable entity, along with what its triangles are generated from
+     */
+    private static class StaticPart
+    {
+        private final Class<? extends IEntityRaytraceable> raytraceClass;
+        private final RayTracePart part;
+        private final Matrix4d matrix;
+        private final IBakedModel model;
+        private final String sortKey;
+
+        public StaticPart(Class<? extends IEntityRaytraceable> raytraceClass, RayTracePart part, Matrix4d matrix, IBakedModel model)
+        {
+            this.raytraceClass = raytraceClass;
+            this.part = part;
+            this.matrix = matrix;
+            this.model = model;
+            String name;
+            if (part.model != null)
+                name = part.model.name();
+            else if (part.partBox != null)
+                name = part.partBox.toString();
+            else
+                name = part.partStack.getItem().getRegistryName() + ":" + part.partStack.getMetadata() + ":" + part.partStack.getTagCompound();
+
+            this.sortKey = name + matrix;
+        }
+    }
+
     /**
      * Wrapper class for raytraceable triangles
      */
@@ -1681,6 +1971,8 @@ public class EntityRaytracer
     {
         private final List<TriangleRayTrace> triangles;
         private final BiFunction<RayTracePart, Entity, Matrix4d> matrixFactory;
+        private final TriangleHierarchy hierarchy;
+        private final Matrix4d inverse = new Matrix4d();
 
         /**
          * Constructor for static triangles
@@ -1703,6 +1995,7 @@ public class EntityRaytracer
         {
             this.triangles = triangles;
             this.matrixFactory = matrixFactory;
+            this.hierarchy = matrixFactory == null ? new TriangleHierarchy(triangles) : null;
         }
 
         /**
@@ -1726,6 +2019,60 @@ public class EntityRaytracer
             return this.triangles;
         }
 
+        /**
+         * Raytraces dynamic triangles by moving the ray into the space of the part with the inverse of its matrix, so the triangles are tested
+         * as they are instead of being transformed on every call. Part matrices are affine, so the distance along the ray is the same in both spaces.
+         * 
+         * @param part raytrace part
+         * @param entity raytraced entity
+         * @param eyes position of the eyes of the player
+         * @param direction normalized direction vector scaled by reach distance that represents the player's looking direction
+         * @param pos position of the entity being raytraced
+         * @param eyeVecRotated position of the player's eyes taking into account the rotation yaw of the raytraced entity
+         * @param distanceShortest distance from eyes to the current closest viewed object
+         * 
+         * @return the closest hit, or null if nothing closer was hit
+         */
+        @Nullable
+        private RayTraceResultTriangle raytraceDynamic(RayTracePart part, Entity entity, float[] eyes, float[] direction, Vec3d pos, Vec3d eyeVecRotated, double distanceShortest)
+        {
+            allocationCount++;
+            try
+            {
+                inverse.invert(matrixFactory.apply(part, entity));
+            }
+            catch (SingularMatrixException e)
+            {
+                // The part is scaled down to nothing, so there is nothing to hit
+                return null;
+            }
+
+            double x = eyes[0] - pos.x;
+            double y = eyes[1] - pos.y;
+            double z = eyes[2] - pos.z;
+            float originX = (float) (inverse.m00 * x + inverse.m01 * y + inverse.m02 * z + inverse.m03);
+            float originY = (float) (inverse.m10 * x + inverse.m11 * y + inverse.m12 * z + inverse.m13);
+            float originZ = (float) (inverse.m20 * x + inverse.m21 * y + inverse.m22 * z + inverse.m23);
+            float directionX = (float) (inverse.m00 * direction[0] + inverse.m01 * direction[1] + inverse.m02 * direction[2]);
+            float directionY = (float) (inverse.m10 * direction[0] + inverse.m11 * direction[1] + inverse.m12 * direction[2]);
+            float directionZ = (float) (inverse.m20 * direction[0] + inverse.m21 * direction[1] + inverse.m22 * direction[2]);
+
+            float closest = -1;
+            for (int i = 0; i < triangles.size(); i++)
+            {
+                float t = RayTraceResultTriangle.intersect(originX, originY, originZ, directionX, directionY, directionZ, triangles.get(i).getData());
+                if (t >= 0 && (closest < 0 || t < closest))
+                {
+                    closest = t;
+                }
+            }
+            if (closest < 0)
+                return null;
+
+            RayTraceResultTriangle result = new RayTraceResultTriangle(part, eyes[0] + direction[0] * closest, eyes[1] + direction[1] * closest, eyes[2] + direction[2] * closest);
+            return result.calculateAndSaveDistance(eyeVecRotated) < distanceShortest ? result : null;
+        }
+
         /**
          * Gets list of triangles directly
          */
@@ -1735,6 +2082,197 @@ public class EntityRaytracer
         }
     }
 
+    /**
+     * Bounding volume hierarchy over a list of static triangles, built once when the list is created. The bounds of the root node are the bounds of
+     * the whole part, so a ray that misses the part is rejected with a single box test.
+     */
+    private static class TriangleHierarchy
+    {
+        private static final int MAX_LEAF_SIZE = 4;
+        private static final int MAX_DEPTH = 64;
+
+        private final TriangleRayTrace[] triangles;
+        /**
+         * Six floats per node for the min and max corners of its bounds
+         */
+        private final float[] bounds;
+        /**
+         * Two ints per node: the indexes of the child nodes, or for leaves the negative first triangle index minus one and the triangle count
+         */
+        private final int[] nodes;
+        private int nodeCount;
+
+        public TriangleHierarchy(List<TriangleRayTrace> triangleList)
+        {
+            int count = triangleList.size();
+            Integer[] order = new Integer[count];
+            float[] centroids = new float[count * 3];
+            for (int i = 0; i < count; i++)
+            {
+                order[i] = i;
+                float[] data = triangleList.get(i).getData();
+                centroids[i * 3] = (data[0] + data[3] + data[6]) / 3F;
+                centroids[i * 3 + 1] = (data[1] + data[4] + data[7]) / 3F;
+                centroids[i * 3 + 2] = (data[2] + data[5] + data[8]) / 3F;
+            }
+
+            int capacity = Math.max(1, count * 2);
+            bounds = new float[capacity * 6];
+            nodes = new int[capacity * 2];
+            if (count > 0)
+            {
+                build(triangleList, order, centroids, 0, count, 0);
+            }
+
+            triangles = new TriangleRayTrace[count];
+            for (int i = 0; i < count; i++)
+            {
+                triangles[i] = triangleList.get(order[i]);
+            }
+        }
+
+        private int build(List<TriangleRayTrace> triangleList, Integer[] order, float[] centroids, int start, int end, int depth)
+        {
+            int node = nodeCount++;
+            int offset = node * 6;
+            bounds[offset] = bounds[offset + 1] = bounds[offset + 2] = Float.POSITIVE_INFINITY;
+            bounds[offset + 3] = bounds[offset + 4] = bounds[offset + 5] = Float.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++)
+            {
+                float[] data = triangleList.get(order[i]).getData();
+                for (int j = 0; j < 9; j += 3)
+                {
+                    for (int axis = 0; axis < 3; axis++)
+                    {
+                        bounds[offset + axis] = Math.min(bounds[offset + axis], data[j + axis]);
+                        bounds[offset + 3 + axis] = Math.max(bounds[offset + 3 + axis], data[j + axis]);
+                    }
+                }
+            }
+
+            if (end - start <= MAX_LEAF_SIZE || depth >= MAX_DEPTH - 2)
+            {
+                nodes[node * 2] = -start - 1;
+                nodes[node * 2 + 1] = end - start;
+                return node;
+            }
+
+            // Split at the median along the longest axis
+            int axis = 0;
+            for (int i = 1; i < 3; i++)
+            {
+                if (bounds[offset + 3 + i] - bounds[offset + i] > bounds[offset + 3 + axis] - bounds[offset + axis])
+                {
+                    axis = i;
+                }
+            }
+            final int splitAxis = axis;
+            Arrays.sort(order, start, end, Comparator.comparingDouble(index -> centroids[index * 3 + splitAxis]));
+            int middle = (start + end) >>> 1;
+            int left = build(triangleList, order, centroids, start, middle, depth + 1);
+            int right = build(triangleList, order, centroids, middle, end, depth + 1);
+            nodes[node * 2] = left;
+            nodes[node * 2 + 1] = right;
+            return node;
+        }
+
+        /**
+         * Finds the closest triangle hit by the ray that is nearer than the given distance
+         * 
+         * @param eyes position of the eyes of the player
+         * @param direction normalized direction vector scaled by reach distance that represents the player's looking direction
+         * @param pos position of the entity being raytraced
+         * @param eyeVecRotated position of the player's eyes taking into account the rotation yaw of the raytraced entity
+         * @param distanceShortest distance from eyes to the current closest viewed object
+         * @param part raytrace part
+         * 
+         * @return the closest hit, or null if nothing closer was hit
+         */
+        @Nullable
+        public RayTraceResultTriangle raytrace(float[] eyes, float[] direction, Vec3d pos, Vec3d eyeVecRotated, double distanceShortest, RayTracePart part)
+        {
+            if (nodeCount == 0)
+                return null;
+
+            // The triangles are relative to the entity, so the ray is moved instead of every triangle
+            float originX = eyes[0] - (float) pos.x;
+            float originY = eyes[1] - (float) pos.y;
+            float originZ = eyes[2] - (float) pos.z;
+            float inverseX = 1F / direction[0];
+            float inverseY = 1F / direction[1];
+            float inverseZ = 1F / direction[2];
+            double length = Math.sqrt(direction[0] * direction[0] + direction[1] * direction[1] + direction[2] * direction[2]);
+
+            RayTraceResultTriangle lookPart = null;
+            int[] stack = new int[MAX_DEPTH];
+            int size = 0;
+            stack[size++] = 0;
+            while (size > 0)
+            {
+                int node = stack[--size];
+                float limit = (float) (distanceShortest / length) * 1.001F + 0.001F;
+                if (!intersectsBounds(node, originX, originY, originZ, inverseX, inverseY, inverseZ, limit))
+                    continue;
+
+                int first = nodes[node * 2];
+                int second = nodes[node * 2 + 1];
+                if (first < 0)
+                {
+                    int start = -first - 1;
+                    for (int i = start; i < start + second; i++)
+                    {
+                        RayTraceResultTriangle lookObjectPutative = RayTraceResultTriangle.calculateIntercept(eyes, direction, pos, triangles[i].getData(), part);
+                        if (lookObjectPutative != null)
+                        {
+                            double distance = lookObjectPutative.calculateAndSaveDistance(eyeVecRotated);
+                            if (distance < distanceShortest)
+                            {
+                                lookPart = lookObjectPutative;
+                                distanceShortest = distance;
+                            }
+                        }
+                    }
+                }
+                else
+                {
+                    stack[size++] = second;
+                    stack[size++] = first;
+                }
+            }
+            return lookPart;
+        }
+
+        /**
+         * Slab test of the ray against the bounds of a node. Comparisons are written so that NaN values from axis-parallel rays are ignored.
+         */
+        private boolean intersectsBounds(int node, float originX, float originY, float originZ, float inverseX, float inverseY, float inverseZ, float limit)
+        {
+            int offset = node * 6;
+            float near = 0;
+            float far = limit;
+
+            float t1 = (bounds[offset] - originX) * inverseX;
+            float t2 = (bounds[offset + 3] - originX) * inverseX;
+            if (t1 > t2) { float t = t1; t1 = t2; t2 = t; }
+            if (t1 > near) near = t1;
+            if (t2 < far) far = t2;
+
+            t1 = (bounds[offset + 1] - originY) * inverseY;
+            t2 = (bounds[offset + 4] - originY) * inverseY;
+            if (t1 > t2) { float t = t1; t1 = t2; t2 = t; }
+            if (t1 > near) near = t1;
+            if (t2 < far) far = t2;
+
+            t1 = (bounds[offset + 2] - originZ) * inverseZ;
+            t2 = (bounds[offset + 5] - originZ) * inverseZ;
+            if (t1 > t2) { float t = t1; t1 = t2; t2 = t; }
+            if (t1 > near) near = t1;
+            if (t2 < far) far = t2;
+
+            return near <= far;
+        }
+    }
+
     /**
      * The result of a raytrace on a triangle.
      * <p>
@@ -1749,6 +2287,7 @@ public class EntityRaytracer
 
         public RayTraceResultTriangle(RayTracePart part, float x, float y, float z)
         {
+            allocationCount++;
             this.part = part;
             this.x = x;
             this.y = y;
@@ -1789,55 +2328,59 @@ public class EntityRaytracer
          */
         public static RayTraceResultTriangle calculateIntercept(float[] eyes, float[] direction, Vec3d posEntity, float[] data, RayTracePart part)
         {
-            float[] vec0 = {data[0] + (float) posEntity.x, data[1] + (float) posEntity.y, data[2] + (float) posEntity.z};
-            float[] vec1 = {data[3] + (float) posEntity.x, data[4] + (float) posEntity.y, data[5] + (float) posEntity.z};
-            float[] vec2 = {data[6] + (float) posEntity.x, data[7] + (float) posEntity.y, data[8] + (float) posEntity.z};
-            float[] edge1 = new float[3];
-            float[] edge2 = new float[3];
-            float[] tvec = new float[3];
-            float[] pvec = new float[3];
-            float[] qvec = new float[3];
-            float det;
-            float inv_det;
-            subtract(edge1, vec1, vec0);
-            subtract(edge2, vec2, vec0);
-            crossProduct(pvec, direction, edge2);
-            det = dotProduct(edge1, pvec);
-            if (det <= -EPSILON || det >= EPSILON)
-            {
-                inv_det = 1f / det;
-                subtract(tvec, eyes, vec0);
-                float u = dotProduct(tvec, pvec) * inv_det;
-                if (u >= 0 && u <= 1)
-                {
-                    crossProduct(qvec, tvec, edge1);
-                    float v = dotProduct(direction, qvec) * inv_det;
-                    if (v >= 0 && u + v <= 1 && inv_det * dotProduct(edge2, qvec) > EPSILON)
-                    {
-                        return new RayTraceResultTriangle(part, edge1[0] * u + edge2[0] * v + vec0[0], edge1[1] * u + edge2[1] * v + vec0[1], edge1[2] * u + edge2[2] * v + vec0[2]);
-                    }
-                }
-            }
-            return null;
-        }
-
-        private static void crossProduct(float[] result, float[] v1, float[] v2)
-        {
-            result[0] = v1[1] * v2[2] - v1[2] * v2[1];
-            result[1] = v1[2] * v2[0] - v1[0] * v2[2];
-            result[2] = v1[0] * v2[1] - v1[1] * v2[0];
-        }
+            float t = intersect(eyes[0] - (float) posEntity.x, eyes[1] - (float) posEntity.y, eyes[2] - (float) posEntity.z, direction[0], direction[1], direction[2], data);
+            if (t < 0)
+                return null;
 
-        private static float dotProduct(float[] v1, float[] v2)
-        {
-            return v1[0] * v2[0] + v1[1] * v2[1] + v1[2] * v2[2];
+            return new RayTraceResultTriangle(part, eyes[0] + direction[0] * t, eyes[1] + direction[1] * t, eyes[2] + direction[2] * t);
         }
 
-        private static void subtract(float[] result, float[] v1, float[] v2)
-        {
-            result[0] = v1[0] - v2[0];
-            result[1] = v1[1] - v2[1];
-            result[2] = v1[2] - v2[2];
+        /**
+         * Möller/Trumbore intersection of a ray with a triangle in the same space as the ray, without allocating
+         * 
+         * @param originX x position of the start of the ray
+         * @param originY y position of the start of the ray
+         * @param originZ z position of the start of the ray
+         * @param directionX x component of the ray's direction
+         * @param directionY y component of the ray's direction
+         * @param directionZ z component of the ray's direction
+         * @param data triangle data
+         * 
+         * @return distance to the intersection as a multiple of the direction vector, or -1 if the ray does not intersect the triangle
+         */
+        private static float intersect(float originX, float originY, float originZ, float directionX, float directionY, float directionZ, float[] data)
+        {
+            triangleTestCount++;
+            float edge1X = data[3] - data[0];
+            float edge1Y = data[4] - data[1];
+            float edge1Z = data[5] - data[2];
+            float edge2X = data[6] - data[0];
+            float edge2Y = data[7] - data[1];
+            float edge2Z = data[8] - data[2];
+            float pX = directionY * edge2Z - directionZ * edge2Y;
+            float pY = directionZ * edge2X - directionX * edge2Z;
+            float pZ = directionX * edge2Y - directionY * edge2X;
+            float det = edge1X * pX + edge1Y * pY + edge1Z * pZ;
+            if (det > -EPSILON && det < EPSILON)
+                return -1;
+
+            float invDet = 1F / det;
+            float tX = originX - data[0];
+            float tY = originY - data[1];
+            float tZ = originZ - data[2];
+            float u = (tX * pX + tY * pY + tZ * pZ) * invDet;
+            if (u < 0 || u > 1)
+                return -1;
+
+            float qX = tY * edge1Z - tZ * edge1Y;
+            float qY = tZ * edge1X - tX * edge1Z;
+            float qZ = tX * edge1Y - tY * edge1X;
+            float v = (directionX * qX + directionY * qY + directionZ * qZ) * invDet;
+            if (v < 0 || u + v > 1)
+                return -1;
+
+            float t = (edge2X * qX + edge2Y * qY + edge2Z * qZ) * invDet;
+            return t > EPSILON ? t : -1;
         }
     }
 
@@ -0,0 +1,81 @@
+package com.mrcrayfish.vehicle.client;
+
+import com.mrcrayfish.vehicle.Reference;
+import com.mrcrayfish.vehicle.entity.EngineTier;
+import com.mrcrayfish.vehicle.entity.EngineType;
+import com.mrcrayfish.vehicle.entity.WheelType;
+import com.mrcrayfish.vehicle.init.ModItems;
+import com.mrcrayfish.vehicle.util.RenderUtil;
+import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.client.event.ModelBakeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Holds the models of the engines and wheels that can be installed on vehicles, so rendering a
+ * vehicle doesn't need to create item stacks and look them up through the item model mesher
+ * every frame. The models are resolved once when first used and dropped whenever models are
+ * baked again.
+ *
+ * Author: MrCrayfish
+ */
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID, value = Side.CLIENT)
+public class PartModels
+{
+    private static final IBakedModel[] WHEELS = new IBakedModel[WheelType.values().length];
+    private static final IBakedModel[] ENGINES = new IBakedModel[EngineType.values().length * EngineTier.values().length];
+
+    public static IBakedModel getWheel(WheelType type)
+    {
+        int index = type.ordinal();
+        if(WHEELS[index] == null)
+        {
+            WHEELS[index] = RenderUtil.getModel(new ItemStack(ModItems.WHEEL, 1, index));
+        }
+        return WHEELS[index];
+    }
+
+    @Nullable
+    public static IBakedModel getEngine(EngineType type, EngineTier tier)
+    {
+        int index = type.ordinal() * EngineTier.values().length + tier.ordinal();
+        if(ENGINES[index] == null)
+        {
+            Item item = getEngineItem(type);
+            if(item == null)
+                return null;
+
+            ENGINES[index] = RenderUtil.getModel(new ItemStack(item, 1, tier.ordinal()));
+        }
+        return ENGINES[index];
+    }
+
+    @Nullable
+    private static Item getEngineItem(EngineType type)
+    {
+        switch(type)
+        {
+            case SMALL_MOTOR:
+                return ModItems.SMALL_ENGINE;
+            case LARGE_MOTOR:
+                return ModItems.LARGE_ENGINE;
+            case ELECTRIC_MOTOR:
+                return ModItems.ELECTRIC_ENGINE;
+            default:
+                return null;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onModelBake(ModelBakeEvent event)
+    {
+        Arrays.fill(WHEELS, null);
+        Arrays.fill(ENGINES, null);
+    }
+}
@@ -0,0 +1,120 @@
+package com.mrcrayfish.vehicle.client;
+
+import com.mrcrayfish.vehicle.Reference;
+import net.minecraft.client.Minecraft;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the triangles generated by {@link EntityRaytracer} for static parts, so they
+ * don't need to be generated again every time the game starts. The file starts with a key that
+ * hashes everything the triangles were generated from and is ignored if the key doesn't match.
+ *
+ * Author: MrCrayfish
+ */
+class RaytraceCache
+{
+    private static final Logger LOGGER = LogManager.getLogger(Reference.MOD_ID);
+
+    private static final int MAGIC = 0x56525443;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private static File getFile()
+    {
+        return new File(Minecraft.getMinecraft().mcDataDir, "cache/vehicle_raytracer.bin");
+    }
+
+    /**
+     * Reads the triangle sets from the cache file by memory mapping it.
+     *
+     * @param key the hash of the current parts, models and transforms
+     * @return the flattened triangle data of each part, or null if the cache is missing or stale
+     */
+    @Nullable
+    static List<float[]> read(long key)
+    {
+        File file = getFile();
+        if(!file.isFile())
+            return null;
+
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            /* The header is read without mapping so a stale file isn't left mapped, which would stop it from being replaced on some systems */
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while(header.hasRemaining() && channel.read(header) >= 0);
+            header.flip();
+            if(header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != FORMAT || header.getLong() != key)
+                return null;
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, channel.size() - HEADER_SIZE);
+            int count = buffer.getInt();
+            List<float[]> triangleSets = new ArrayList<>(count);
+            for(int i = 0; i < count; i++)
+            {
+                float[] data = new float[buffer.getInt()];
+                FloatBuffer floats = buffer.asFloatBuffer();
+                floats.get(data);
+                buffer.position(buffer.position() + data.length * 4);
+                triangleSets.add(data);
+            }
+            return triangleSets;
+        }
+        catch(IOException | BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the triangle sets to the cache file. The file is written next to the old one and then
+     * moved over it, so a crash while writing can't leave a broken cache behind.
+     */
+    static void write(long key, List<float[]> triangleSets)
+    {
+        File file = getFile();
+        File temp = new File(file.getPath() + ".tmp");
+        try
+        {
+            Files.createDirectories(file.getParentFile().toPath());
+            try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp))))
+            {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT);
+                output.writeLong(key);
+                output.writeInt(triangleSets.size());
+                for(float[] data : triangleSets)
+                {
+                    output.writeInt(data.length);
+                    for(float value : data)
+                    {
+                        output.writeFloat(value);
+                    }
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch(IOException e)
+        {
+            LOGGER.warn("Unable to write the raytrace triangle cache to {}", file, e);
+            temp.delete();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import net.minecraft.client.renderer.block.model.ModelManager;
 import net.minecraft.client.renderer.block.model.ModelResourceLocation;
 import net.minecraft.item.Item;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.client.event.ModelBakeEvent;
 import net.minecraftforge.client.event.ModelRegistryEvent;
 import net.minecraftforge.client.model.ModelLoader;
 import net.minecraftforge.fml.common.Mod;
@@ -145,4 +146,20 @@ public enum SpecialModels
             }
         }
     }
+
+    /**
+     * Resolves every model as soon as they are baked, which also replaces the models cached
+     * before resources were reloaded
+     */
+    @SubscribeEvent
+    @SideOnly(Side.CLIENT)
+    public static void onModelBake(ModelBakeEvent event)
+    {
+        IBakedModel missingModel = event.getModelManager().getMissingModel();
+        for(SpecialModels model : SpecialModels.values())
+        {
+            IBakedModel bakedModel = event.getModelRegistry().getObject(model.modelLocation);
+            model.cachedModel = bakedModel != null ? bakedModel : missingModel;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.mrcrayfish.vehicle.client.gui;
 
 import com.google.common.collect.Lists;
+import com.mrcrayfish.vehicle.Reference;
 import com.mrcrayfish.vehicle.VehicleConfig;
 import com.mrcrayfish.vehicle.common.container.ContainerWorkstation;
 import com.mrcrayfish.vehicle.common.entity.PartPosition;
@@ -33,9 +34,13 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.registry.EntityEntry;
 import net.minecraftforge.fml.common.registry.EntityRegistry;
+import net.minecraftforge.fml.relauncher.Side;
 
 import java.awt.*;
 import java.io.IOException;
@@ -47,6 +52,7 @@ import java.util.stream.Collectors;
 /**
  * Author: MrCrayfish
  */
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID, value = Side.CLIENT)
 public class GuiWorkstation extends GuiContainer
 {
     private static final ResourceLocation GUI = new ResourceLocation("vehicle:textures/gui/workstation.png");
@@ -56,7 +62,7 @@ public class GuiWorkstation extends GuiContainer
     private static int currentVehicle = 0;
     private static int prevCurrentVehicle = 0;
     private static boolean showRemaining = false;
-    private EntityVehicle[] cachedVehicle;
+    private static EntityVehicle[] cachedVehicle;
     private IInventory playerInventory;
     private TileEntityWorkstation workstation;
     private GuiButton btnCraft;
@@ -65,6 +71,7 @@ public class GuiWorkstation extends GuiContainer
     private boolean transitioning;
     private int vehicleScale = 30;
     private int prevVehicleScale = 30;
+    private int timesInventoryChanged;
 
     public GuiWorkstation(IInventory playerInventory, TileEntityWorkstation workstation)
     {
@@ -74,7 +81,26 @@ public class GuiWorkstation extends GuiContainer
         this.xSize = 289;
         this.ySize = 202;
         this.materials = new ArrayList<>();
-        this.cachedVehicle = new EntityVehicle[VehicleRecipes.getVehicleCount()];
+        this.filteredMaterials = new ArrayList<>();
+
+        /* Preview vehicles are kept between openings of the workstation until the world unloads */
+        if(cachedVehicle == null || cachedVehicle.length != VehicleRecipes.getVehicleCount())
+        {
+            cachedVehicle = new EntityVehicle[VehicleRecipes.getVehicleCount()];
+        }
+    }
+
+    /**
+     * The preview vehicles hold on to the world they were created in, so they are dropped along
+     * with it instead of keeping the old world loaded.
+     */
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        if(event.getWorld().isRemote)
+        {
+            cachedVehicle = null;
+        }
     }
 
     @Override
@@ -101,9 +127,11 @@ public class GuiWorkstation extends GuiContainer
 
         validEngine = true;
 
-        for(MaterialItem material : materials)
+        /* Materials are only checked again when the inventory has changed */
+        int timesChanged = Minecraft.getMinecraft().player.inventory.getTimesChanged();
+        if(timesChanged != timesInventoryChanged)
         {
-            material.update();
+            this.updateMaterials();
         }
 
         boolean canCraft = true;
@@ -217,7 +245,11 @@ public class GuiWorkstation extends GuiContainer
         int startX = (this.width - this.xSize) / 2;
         int startY = (this.height - this.ySize) / 2;
         this.checkBoxMaterials.handleClick(startX, startY, mouseX, mouseY, mouseButton);
-        GuiWorkstation.showRemaining = this.checkBoxMaterials.isToggled();
+        if(GuiWorkstation.showRemaining != this.checkBoxMaterials.isToggled())
+        {
+            GuiWorkstation.showRemaining = this.checkBoxMaterials.isToggled();
+            this.filteredMaterials = this.getMaterials();
+        }
     }
 
     @Override
@@ -296,10 +328,9 @@ public class GuiWorkstation extends GuiContainer
         VehicleRecipes.VehicleRecipe recipe = VehicleRecipes.getRecipe(cachedVehicle[index].getClass());
         for(int i = 0; i < recipe.getMaterials().size(); i++)
         {
-            MaterialItem item = new MaterialItem(recipe.getMaterials().get(i));
-            item.update();
-            materials.add(item);
+            materials.add(new MaterialItem(recipe.getMaterials().get(i)));
         }
+        this.updateMaterials();
 
         currentVehicle = index;
 
@@ -309,6 +340,16 @@ public class GuiWorkstation extends GuiContainer
         }
     }
 
+    private void updateMaterials()
+    {
+        timesInventoryChanged = Minecraft.getMinecraft().player.inventory.getTimesChanged();
+        for(MaterialItem material : materials)
+        {
+            material.update();
+        }
+        filteredMaterials = this.getMaterials();
+    }
+
     @Override
     public void drawScreen(int mouseX, int mouseY, float partialTicks)
     {
@@ -420,7 +461,6 @@ public class GuiWorkstation extends GuiContainer
         }
         GlStateManager.popMatrix();
 
-        filteredMaterials = this.getMaterials();
         for(int i = 0; i < filteredMaterials.size(); i++)
         {
             GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
@@ -458,9 +498,7 @@ public class GuiWorkstation extends GuiContainer
 
                 if(checkBoxMaterials.isToggled())
                 {
-                    int count = InventoryUtil.getItemStackAmount(Minecraft.getMinecraft().player, stack);
-                    stack = stack.copy();
-                    stack.setCount(stack.getCount() - count);
+                    stack = materialItem.getRemaining();
                 }
 
                 Minecraft.getMinecraft().getRenderItem().renderItemOverlayIntoGUI(fontRenderer, stack, startX + 186 + 2, startY + i * 19 + 6 + 1 + 57, null);
@@ -519,6 +557,7 @@ public class GuiWorkstation extends GuiContainer
 
         private boolean enabled = false;
         private ItemStack stack = ItemStack.EMPTY;
+        private ItemStack remaining = ItemStack.EMPTY;
 
         public MaterialItem() {}
 
@@ -532,11 +571,23 @@ public class GuiWorkstation extends GuiContainer
             return stack;
         }
         
+        /**
+         * Gets a copy of the stack with the amount the player is still missing. Updated along with
+         * whether the material is available, so it doesn't have to be counted every frame.
+         */
+        public ItemStack getRemaining()
+        {
+            return remaining;
+        }
+
         public void update()
         {
             if(!stack.isEmpty())
             {
-                enabled = InventoryUtil.hasItemStack(Minecraft.getMinecraft().player, stack);
+                int count = InventoryUtil.getItemStackAmount(Minecraft.getMinecraft().player, stack);
+                enabled = count >= stack.getCount();
+                remaining = stack.copy();
+                remaining.setCount(stack.getCount() - count);
             }
         }
 
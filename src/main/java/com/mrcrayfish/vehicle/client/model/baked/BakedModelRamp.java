@@ -1,5 +1,6 @@
 package com.mrcrayfish.vehicle.client.model.baked;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.mrcrayfish.vehicle.block.BlockBoostRamp;
@@ -46,116 +47,131 @@ public class BakedModelRamp implements IBakedModel
     private TextureAtlasSprite mainTexture;
     private TextureAtlasSprite rampTexture;
 
+    /* The quads only depend on the state properties, so every combination is built once when the model is baked */
+    private final List<List<BakedQuad>> quads;
+
     public BakedModelRamp(VertexFormat format, Function<ResourceLocation, TextureAtlasSprite> bakedTextureGetter)
     {
         this.format = format;
         this.mainTexture = bakedTextureGetter.apply(new ResourceLocation("minecraft", "blocks/concrete_gray"));
         this.rampTexture = bakedTextureGetter.apply(new ResourceLocation("vehicle", "blocks/boost_pad"));
+
+        ImmutableList.Builder<List<BakedQuad>> quads = ImmutableList.builder();
+        for(int index = 0; index < 32; index++)
+        {
+            quads.add(this.buildQuads(EnumFacing.getHorizontal(index >> 3), (index & 4) != 0, (index & 2) != 0, (index & 1) != 0));
+        }
+        this.quads = quads.build();
     }
 
     @Override
     public List<BakedQuad> getQuads(@Nullable IBlockState state, @Nullable EnumFacing side, long rand)
     {
-        List<BakedQuad> quads = Lists.newArrayList();
-        if(side == null)
+        if(side != null)
+            return ImmutableList.of();
+
+        EnumFacing facing = EnumFacing.NORTH;
+        boolean stacked = false;
+        boolean left = false;
+        boolean right = false;
+        if(state != null)
         {
-            BakedQuadBuilder builder = new BakedQuadBuilder(format);
-            builder.setFacing(EnumFacing.NORTH);
-
-            EnumFacing facing = EnumFacing.NORTH;
-            float startHeight = 0.0F;
-            float endHeight = 0.5F;
-            boolean left = false;
-            boolean right = false;
-
-            if(state != null)
+            if(state.getPropertyKeys().contains(BlockRotatedObject.FACING))
             {
-                if(state.getPropertyKeys().contains(BlockRotatedObject.FACING))
-                {
-                    facing = state.getValue(BlockRotatedObject.FACING);
-                    builder.setFacing(facing);
-                }
-                if(state.getPropertyKeys().contains(BlockBoostRamp.STACKED) && state.getValue(BlockBoostRamp.STACKED))
-                {
-                    startHeight = 0.5F;
-                    endHeight = 1.0F;
-                }
-                left = state.getPropertyKeys().contains(BlockBoostRamp.LEFT) && state.getValue(BlockBoostRamp.LEFT);
-                right = state.getPropertyKeys().contains(BlockBoostRamp.RIGHT) && state.getValue(BlockBoostRamp.RIGHT);
+                facing = state.getValue(BlockRotatedObject.FACING);
             }
+            stacked = state.getPropertyKeys().contains(BlockBoostRamp.STACKED) && state.getValue(BlockBoostRamp.STACKED);
+            left = state.getPropertyKeys().contains(BlockBoostRamp.LEFT) && state.getValue(BlockBoostRamp.LEFT);
+            right = state.getPropertyKeys().contains(BlockBoostRamp.RIGHT) && state.getValue(BlockBoostRamp.RIGHT);
+        }
+        return quads.get(getIndex(facing, stacked, left, right));
+    }
 
-            builder.setTexture(rampTexture);
+    private static int getIndex(EnumFacing facing, boolean stacked, boolean left, boolean right)
+    {
+        return facing.getHorizontalIndex() << 3 | (stacked ? 4 : 0) | (left ? 2 : 0) | (right ? 1 : 0);
+    }
 
-            int offsetStart = left ? 0 : 1;
-            int offsetEnd = right ? 16 : 15;
+    private List<BakedQuad> buildQuads(EnumFacing facing, boolean stacked, boolean left, boolean right)
+    {
+        List<BakedQuad> quads = Lists.newArrayList();
+        BakedQuadBuilder builder = new BakedQuadBuilder(format);
+        builder.setFacing(facing);
 
-            //Boost Pad
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetStart * 0.0625F, offsetStart, 0), EnumFacing.UP);
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetEnd * 0.0625F, offsetEnd, 0), EnumFacing.UP);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetEnd * 0.0625F, offsetEnd, 16), EnumFacing.UP);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetStart * 0.0625F, offsetStart, 16), EnumFacing.UP);
-            quads.add(builder.build());
+        float startHeight = stacked ? 0.5F : 0.0F;
+        float endHeight = stacked ? 1.0F : 0.5F;
 
-            builder.setTexture(mainTexture);
+        builder.setTexture(rampTexture);
 
-            if(!left)
-            {
-                //Left Trim
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 0, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1 * 0.0625F, 1, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1 * 0.0625F, 1, 16), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16), EnumFacing.UP);
-                quads.add(builder.build());
-            }
+        int offsetStart = left ? 0 : 1;
+        int offsetEnd = right ? 16 : 15;
 
-            if(!right)
-            {
-                //Right Trim
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 15 * 0.0625F, 15, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 16, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 15 * 0.0625F, 15, 16), EnumFacing.UP);
-                quads.add(builder.build());
-            }
+        //Boost Pad
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetStart * 0.0625F, offsetStart, 0), EnumFacing.UP);
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetEnd * 0.0625F, offsetEnd, 0), EnumFacing.UP);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetEnd * 0.0625F, offsetEnd, 16), EnumFacing.UP);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetStart * 0.0625F, offsetStart, 16), EnumFacing.UP);
+        quads.add(builder.build());
 
-            //Left Side
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 0, 0), facing.rotateYCCW());
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing.rotateYCCW());
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 16, 16 * startHeight), facing.rotateYCCW());
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16 * endHeight), facing.rotateYCCW());
-            quads.add(builder.build());
+        builder.setTexture(mainTexture);
 
-            //Back Side
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 16, 16 * endHeight), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 0, 16 * endHeight), facing);
+        if(!left)
+        {
+            //Left Trim
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 0, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1 * 0.0625F, 1, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1 * 0.0625F, 1, 16), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16), EnumFacing.UP);
             quads.add(builder.build());
+        }
 
-            if(startHeight > 0.0F)
-            {
-                builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 0, 0), facing);
-                builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 16, 0), facing);
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 16, 16 * startHeight), facing);
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 0, 16 * startHeight), facing);
-                quads.add(builder.build());
-            }
-
-            //Right Side
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing.rotateY());
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 16, 0), facing.rotateY());
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16 * endHeight), facing.rotateY());
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 0, 16 * startHeight), facing.rotateY());
+        if(!right)
+        {
+            //Right Trim
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 15 * 0.0625F, 15, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 16, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 15 * 0.0625F, 15, 16), EnumFacing.UP);
             quads.add(builder.build());
+        }
 
-            //Bottom
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 16), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 16), facing);
+        //Left Side
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 0, 0), facing.rotateYCCW());
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing.rotateYCCW());
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 16, 16 * startHeight), facing.rotateYCCW());
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16 * endHeight), facing.rotateYCCW());
+        quads.add(builder.build());
+
+        //Back Side
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 16, 16 * endHeight), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 0, 16 * endHeight), facing);
+        quads.add(builder.build());
+
+        if(startHeight > 0.0F)
+        {
+            builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 0, 0), facing);
+            builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 16, 0), facing);
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 16, 16 * startHeight), facing);
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 0, 16 * startHeight), facing);
             quads.add(builder.build());
         }
-        return quads;
+
+        //Right Side
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing.rotateY());
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 16, 0), facing.rotateY());
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16 * endHeight), facing.rotateY());
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 0, 16 * startHeight), facing.rotateY());
+        quads.add(builder.build());
+
+        //Bottom
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 16), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 16), facing);
+        quads.add(builder.build());
+        return ImmutableList.copyOf(quads);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.mrcrayfish.vehicle.client.model.baked;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.mrcrayfish.vehicle.block.BlockRotatedObject;
@@ -46,102 +47,120 @@ public class BakedModelSteepRamp implements IBakedModel
     private TextureAtlasSprite mainTexture;
     private TextureAtlasSprite rampTexture;
 
+    /* The quads only depend on the state properties, so every combination is built once when the model is baked */
+    private final List<List<BakedQuad>> quads;
+
     public BakedModelSteepRamp(VertexFormat format, Function<ResourceLocation, TextureAtlasSprite> bakedTextureGetter)
     {
         this.format = format;
         this.mainTexture = bakedTextureGetter.apply(new ResourceLocation("minecraft", "blocks/concrete_gray"));
         this.rampTexture = bakedTextureGetter.apply(new ResourceLocation("vehicle", "blocks/boost_pad"));
+
+        ImmutableList.Builder<List<BakedQuad>> quads = ImmutableList.builder();
+        for(int index = 0; index < 16; index++)
+        {
+            quads.add(this.buildQuads(EnumFacing.getHorizontal(index >> 2), (index & 2) != 0, (index & 1) != 0));
+        }
+        this.quads = quads.build();
     }
 
     @Override
     public List<BakedQuad> getQuads(@Nullable IBlockState state, @Nullable EnumFacing side, long rand)
     {
-        List<BakedQuad> quads = Lists.newArrayList();
-        if(side == null)
-        {
-            BakedQuadBuilder builder = new BakedQuadBuilder(format);
-            builder.setFacing(EnumFacing.NORTH);
-
-            EnumFacing facing = EnumFacing.NORTH;
-            float startHeight = 0.0F;
-            float endHeight = 1.0F;
-            boolean left = false;
-            boolean right = false;
+        if(side != null)
+            return ImmutableList.of();
 
-            if(state != null)
+        EnumFacing facing = EnumFacing.NORTH;
+        boolean left = false;
+        boolean right = false;
+        if(state != null)
+        {
+            if(state.getPropertyKeys().contains(BlockRotatedObject.FACING))
             {
-                if(state.getPropertyKeys().contains(BlockRotatedObject.FACING))
-                {
-                    facing = state.getValue(BlockRotatedObject.FACING);
-                    builder.setFacing(facing);
-                }
-                left = state.getPropertyKeys().contains(BlockSteepBoostRamp.LEFT) && state.getValue(BlockSteepBoostRamp.LEFT);
-                right = state.getPropertyKeys().contains(BlockSteepBoostRamp.RIGHT) && state.getValue(BlockSteepBoostRamp.RIGHT);
+                facing = state.getValue(BlockRotatedObject.FACING);
             }
+            left = state.getPropertyKeys().contains(BlockSteepBoostRamp.LEFT) && state.getValue(BlockSteepBoostRamp.LEFT);
+            right = state.getPropertyKeys().contains(BlockSteepBoostRamp.RIGHT) && state.getValue(BlockSteepBoostRamp.RIGHT);
+        }
+        return quads.get(getIndex(facing, left, right));
+    }
 
-            builder.setTexture(rampTexture);
-
-            int offsetStart = left ? 0 : 1;
-            int offsetEnd = right ? 16 : 15;
+    private static int getIndex(EnumFacing facing, boolean left, boolean right)
+    {
+        return facing.getHorizontalIndex() << 2 | (left ? 2 : 0) | (right ? 1 : 0);
+    }
 
-            //Boost Pad
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetStart * 0.0625F, offsetStart, 0), EnumFacing.UP);
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetEnd * 0.0625F, offsetEnd, 0), EnumFacing.UP);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetEnd * 0.0625F, offsetEnd, 16), EnumFacing.UP);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetStart * 0.0625F, offsetStart, 16), EnumFacing.UP);
-            quads.add(builder.build());
+    private List<BakedQuad> buildQuads(EnumFacing facing, boolean left, boolean right)
+    {
+        List<BakedQuad> quads = Lists.newArrayList();
+        BakedQuadBuilder builder = new BakedQuadBuilder(format);
+        builder.setFacing(facing);
 
-            builder.setTexture(mainTexture);
+        float startHeight = 0.0F;
+        float endHeight = 1.0F;
 
-            if(!left)
-            {
-                //Left Trim
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 0, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1 * 0.0625F, 1, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1 * 0.0625F, 1, 16), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16), EnumFacing.UP);
-                quads.add(builder.build());
-            }
+        builder.setTexture(rampTexture);
 
-            if(!right)
-            {
-                //Right Trim
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 15 * 0.0625F, 15, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 16, 0), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16), EnumFacing.UP);
-                builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 15 * 0.0625F, 15, 16), EnumFacing.UP);
-                quads.add(builder.build());
-            }
+        int offsetStart = left ? 0 : 1;
+        int offsetEnd = right ? 16 : 15;
 
-            //Left Side
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 0, 0), facing.rotateYCCW());
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing.rotateYCCW());
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 16, 16 * startHeight), facing.rotateYCCW());
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16 * endHeight), facing.rotateYCCW());
-            quads.add(builder.build());
+        //Boost Pad
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetStart * 0.0625F, offsetStart, 0), EnumFacing.UP);
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, offsetEnd * 0.0625F, offsetEnd, 0), EnumFacing.UP);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetEnd * 0.0625F, offsetEnd, 16), EnumFacing.UP);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, offsetStart * 0.0625F, offsetStart, 16), EnumFacing.UP);
+        quads.add(builder.build());
 
-            //Back Side
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 16, 16 * endHeight), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 0, 16 * endHeight), facing);
-            quads.add(builder.build());
+        builder.setTexture(mainTexture);
 
-            //Right Side
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing.rotateY());
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 16, 0), facing.rotateY());
-            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16 * endHeight), facing.rotateY());
-            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 0, 16 * startHeight), facing.rotateY());
+        if(!left)
+        {
+            //Left Trim
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 0, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1 * 0.0625F, 1, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1 * 0.0625F, 1, 16), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16), EnumFacing.UP);
             quads.add(builder.build());
+        }
 
-            //Bottom
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 16), facing);
-            builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 16), facing);
+        if(!right)
+        {
+            //Right Trim
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 15 * 0.0625F, 15, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 16, 0), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16), EnumFacing.UP);
+            builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 15 * 0.0625F, 15, 16), EnumFacing.UP);
             quads.add(builder.build());
         }
-        return quads;
+
+        //Left Side
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 0, 0), facing.rotateYCCW());
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing.rotateYCCW());
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 0, 16, 16 * startHeight), facing.rotateYCCW());
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 0, 16 * endHeight), facing.rotateYCCW());
+        quads.add(builder.build());
+
+        //Back Side
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 0, 16, 16 * endHeight), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 0, 16 * endHeight), facing);
+        quads.add(builder.build());
+
+        //Right Side
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing.rotateY());
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 16, 0), facing.rotateY());
+        builder.put(new BakedQuadBuilder.VertexData(1, endHeight, 1, 16, 16 * endHeight), facing.rotateY());
+        builder.put(new BakedQuadBuilder.VertexData(0, startHeight, 1, 0, 16 * startHeight), facing.rotateY());
+        quads.add(builder.build());
+
+        //Bottom
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 1, 0, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(0, 0, 0, 16, 0), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 0, 16, 16), facing);
+        builder.put(new BakedQuadBuilder.VertexData(1, 0, 1, 0, 16), facing);
+        quads.add(builder.build());
+        return ImmutableList.copyOf(quads);
     }
 
     @Override
@@ -43,6 +43,16 @@ public abstract class AbstractRenderVehicle<T extends EntityVehicle>
         return true;
     }
 
+    /**
+     * Whether the body looks the same for every vehicle of the same color, apart from steering,
+     * spinning trailer wheels and animations. Only then can it be drawn from a cached mesh when the
+     * vehicle is far away. Steering and trailer wheels are compiled at rest.
+     */
+    public boolean canCacheBody()
+    {
+        return true;
+    }
+
     protected void renderDamagedPart(EntityVehicle vehicle, IBakedModel model)
     {
         this.renderDamagedPart(vehicle, model, false);
@@ -0,0 +1,74 @@
+package com.mrcrayfish.vehicle.client.render;
+
+import com.mrcrayfish.vehicle.Reference;
+import com.mrcrayfish.vehicle.VehicleConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * The level of detail a vehicle is rendered at. It is chosen every frame from the distance between
+ * the vehicle and the camera, using the distances set in the display config.
+ *
+ * Author: MrCrayfish
+ */
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID, value = Side.CLIENT)
+public enum LevelOfDetail
+{
+    /* Every part is rendered and animated */
+    FULL,
+    /* Small parts such as the engine, fuel port, key port and tow bar are skipped and wheels don't spin */
+    REDUCED,
+    /* Same as reduced, but the body is rendered from a cached display list */
+    LOW;
+
+    private static final int[] COUNTS = new int[values().length];
+    private static final int[] LAST_COUNTS = new int[values().length];
+
+    /**
+     * Gets the level of detail for a vehicle and counts it towards the debug overlay.
+     *
+     * @param distanceSq the squared distance from the camera to the vehicle
+     */
+    public static LevelOfDetail get(double distanceSq)
+    {
+        VehicleConfig.Display display = VehicleConfig.CLIENT.display;
+        LevelOfDetail detail = FULL;
+        if(display.lowDetailDistance > 0 && distanceSq > display.lowDetailDistance * display.lowDetailDistance)
+        {
+            detail = LOW;
+        }
+        else if(display.reducedDetailDistance > 0 && distanceSq > display.reducedDetailDistance * display.reducedDetailDistance)
+        {
+            detail = REDUCED;
+        }
+        COUNTS[detail.ordinal()]++;
+        return detail;
+    }
+
+    @SubscribeEvent
+    public static void onRenderTick(TickEvent.RenderTickEvent event)
+    {
+        if(event.phase == TickEvent.Phase.START)
+        {
+            System.arraycopy(COUNTS, 0, LAST_COUNTS, 0, COUNTS.length);
+            for(int i = 0; i < COUNTS.length; i++)
+            {
+                COUNTS[i] = 0;
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onRenderDebugText(RenderGameOverlayEvent.Text event)
+    {
+        if(VehicleConfig.CLIENT.debug.showLevelOfDetail && Minecraft.getMinecraft().gameSettings.showDebugInfo)
+        {
+            event.getLeft().add("");
+            event.getLeft().add(String.format("Vehicle Detail: %d full, %d reduced, %d low", LAST_COUNTS[FULL.ordinal()], LAST_COUNTS[REDUCED.ordinal()], LAST_COUNTS[LOW.ordinal()]));
+        }
+    }
+}
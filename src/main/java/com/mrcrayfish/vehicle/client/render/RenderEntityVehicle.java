@@ -58,7 +58,7 @@ public class RenderEntityVehicle<T extends EntityVehicle & EntityRaytracer.IEnti
             this.setupBreakAnimation(entity, partialTicks);
 
             //Render vehicle
-            wrapper.render(entity, partialTicks);
+            wrapper.render(entity, partialTicks, LevelOfDetail.get(x * x + y * y + z * z));
         }
         GlStateManager.popMatrix();
 
@@ -49,7 +49,7 @@ public class RenderHelicopterWrapper<T extends EntityHelicopter & EntityRaytrace
             GlStateManager.translate(0, properties.getWheelOffset() * 0.0625F, 0);
 
             //Render body
-            renderVehicle.render(entity, partialTicks);
+            this.renderBody(entity, partialTicks);
 
             //Render the engine if the vehicle has explicitly stated it should
             if(entity.shouldRenderEngine() && entity.hasEngine())
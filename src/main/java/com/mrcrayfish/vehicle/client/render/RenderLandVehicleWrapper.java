@@ -6,6 +6,7 @@ import com.mrcrayfish.vehicle.entity.EntityLandVehicle;
 import com.mrcrayfish.vehicle.entity.VehicleProperties;
 import com.mrcrayfish.vehicle.util.RenderUtil;
 import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.block.model.IBakedModel;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
@@ -43,7 +44,7 @@ public class RenderLandVehicleWrapper<T extends EntityLandVehicle & EntityRaytra
             GlStateManager.translate(bodyPosition.getX(), bodyPosition.getY(), bodyPosition.getZ());
 
             //Render the tow bar. Performed before scaling so size is consistent for all vehicles
-            if(entity.canTowTrailer())
+            if(entity.canTowTrailer() && this.detail == LevelOfDetail.FULL)
             {
                 GlStateManager.pushMatrix();
                 GlStateManager.rotate(180F, 0, 1, 0);
@@ -86,7 +87,7 @@ public class RenderLandVehicleWrapper<T extends EntityLandVehicle & EntityRaytra
             }
 
             //Render body
-            renderVehicle.render(entity, partialTicks);
+            this.renderBody(entity, partialTicks);
 
             //Render vehicle wheels
             if(entity.hasWheels())
@@ -96,7 +97,7 @@ public class RenderLandVehicleWrapper<T extends EntityLandVehicle & EntityRaytra
                     //Offset wheels and compensate for axle offset
                     GlStateManager.translate(0, -8 * 0.0625, 0);
                     GlStateManager.translate(0, -properties.getAxleOffset() * 0.0625F, 0);
-                    properties.getWheels().forEach(wheel -> this.renderWheel(entity, wheel, partialTicks));
+                    this.renderWheels(entity, properties, partialTicks);
                 }
                 GlStateManager.popMatrix();
             }
@@ -116,7 +117,25 @@ public class RenderLandVehicleWrapper<T extends EntityLandVehicle & EntityRaytra
         GlStateManager.popMatrix();
     }
 
-    protected void renderWheel(EntityLandVehicle vehicle, Wheel wheel, float partialTicks)
+    /**
+     * Renders all wheels of the vehicle. The wheel model is resolved once and the render state is
+     * only set up once for all of them, leaving a single display list call per wheel.
+     */
+    protected void renderWheels(T entity, VehicleProperties properties, float partialTicks)
+    {
+        IBakedModel wheelModel = RenderUtil.getWheelModel(entity);
+        if(wheelModel == null)
+            return;
+
+        RenderUtil.beginModelBatch();
+        for(Wheel wheel : properties.getWheels())
+        {
+            this.renderWheel(entity, wheel, wheelModel, partialTicks);
+        }
+        RenderUtil.endModelBatch();
+    }
+
+    protected void renderWheel(EntityLandVehicle vehicle, Wheel wheel, IBakedModel wheelModel, float partialTicks)
     {
         if(!wheel.shouldRender())
             return;
@@ -131,7 +150,7 @@ public class RenderLandVehicleWrapper<T extends EntityLandVehicle & EntityRaytra
                     float wheelAngle = vehicle.prevRenderWheelAngle + (vehicle.renderWheelAngle - vehicle.prevRenderWheelAngle) * partialTicks;
                     GlStateManager.rotate(wheelAngle, 0, 1, 0);
                 }
-                if(vehicle.isMoving())
+                if(vehicle.isMoving() && this.detail == LevelOfDetail.FULL)
                 {
                     GlStateManager.rotate(-wheel.getWheelRotation(vehicle, partialTicks), 1, 0, 0);
                 }
@@ -141,7 +160,7 @@ public class RenderLandVehicleWrapper<T extends EntityLandVehicle & EntityRaytra
                 {
                     GlStateManager.rotate(180F, 0, 1, 0);
                 }
-                RenderUtil.renderColoredModel(RenderUtil.getWheelModel(vehicle), ItemCameraTransforms.TransformType.NONE, vehicle.getWheelColor());
+                RenderUtil.renderBatchedModel(wheelModel, ItemCameraTransforms.TransformType.NONE, vehicle.getWheelColor());
             }
             GlStateManager.popMatrix();
         }
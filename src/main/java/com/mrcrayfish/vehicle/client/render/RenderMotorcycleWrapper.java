@@ -76,7 +76,7 @@ public class RenderMotorcycleWrapper<T extends EntityMotorcycle & EntityRaytrace
             }
 
             //Render body
-            renderVehicle.render(entity, partialTicks);
+            this.renderBody(entity, partialTicks);
 
             //Render vehicle wheels
             if(entity.hasWheels())
@@ -86,7 +86,7 @@ public class RenderMotorcycleWrapper<T extends EntityMotorcycle & EntityRaytrace
                     //Offset wheels and compensate for axle offset
                     GlStateManager.translate(0, -8 * 0.0625, 0);
                     GlStateManager.translate(0, -properties.getAxleOffset() * 0.0625F, 0);
-                    properties.getWheels().forEach(wheel -> this.renderWheel(entity, wheel, partialTicks));
+                    this.renderWheels(entity, properties, partialTicks);
                 }
                 GlStateManager.popMatrix();
             }
@@ -4,8 +4,10 @@ import com.mrcrayfish.vehicle.client.EntityRaytracer;
 import com.mrcrayfish.vehicle.client.SpecialModels;
 import com.mrcrayfish.vehicle.common.entity.PartPosition;
 import com.mrcrayfish.vehicle.entity.EntityPoweredVehicle;
+import com.mrcrayfish.vehicle.entity.EntityTrailer;
 import com.mrcrayfish.vehicle.entity.EntityVehicle;
 import com.mrcrayfish.vehicle.entity.VehicleProperties;
+import com.mrcrayfish.vehicle.util.ModelRenderCache;
 import com.mrcrayfish.vehicle.util.RenderUtil;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
@@ -23,6 +25,7 @@ import java.awt.*;
 public class RenderVehicleWrapper<T extends EntityVehicle & EntityRaytracer.IEntityRaytraceable, R extends AbstractRenderVehicle<T>>
 {
     protected final R renderVehicle;
+    protected LevelOfDetail detail = LevelOfDetail.FULL;
 
     public RenderVehicleWrapper(R renderVehicle)
     {
@@ -34,6 +37,23 @@ public class RenderVehicleWrapper<T extends EntityVehicle & EntityRaytracer.IEnt
         return renderVehicle;
     }
 
+    /**
+     * Renders the vehicle at the given level of detail. Rendering through {@link #render(EntityVehicle, float)}
+     * always uses full detail.
+     */
+    public void render(T entity, float partialTicks, LevelOfDetail detail)
+    {
+        this.detail = detail;
+        try
+        {
+            this.render(entity, partialTicks);
+        }
+        finally
+        {
+            this.detail = LevelOfDetail.FULL;
+        }
+    }
+
     public void render(T entity, float partialTicks)
     {
         if(entity.isDead)
@@ -50,7 +70,7 @@ public class RenderVehicleWrapper<T extends EntityVehicle & EntityRaytracer.IEnt
             GlStateManager.rotate((float) bodyPosition.getRotZ(), 0, 0, 1);
 
             //Render the tow bar. Performed before scaling so size is consistent for all vehicles
-            if(entity.canTowTrailer())
+            if(entity.canTowTrailer() && this.detail == LevelOfDetail.FULL)
             {
                 GlStateManager.pushMatrix();
                 GlStateManager.rotate(180F, 0, 1, 0);
@@ -78,11 +98,75 @@ public class RenderVehicleWrapper<T extends EntityVehicle & EntityRaytracer.IEnt
             GlStateManager.translate(0, properties.getWheelOffset() * 0.0625F, 0);
 
             //Render body
-            renderVehicle.render(entity, partialTicks);
+            this.renderBody(entity, partialTicks);
         }
         GlStateManager.popMatrix();
     }
 
+    /**
+     * Renders the body of the vehicle. At low detail the body is compiled into a display list for
+     * each color, so it is drawn straight ahead and any animations on it stop until the vehicle
+     * comes closer again. Damaged vehicles are always rendered normally as the damage texture may
+     * need to be loaded.
+     */
+    protected void renderBody(T entity, float partialTicks)
+    {
+        if(this.detail != LevelOfDetail.LOW || !this.renderVehicle.canCacheBody() || entity.getDestroyedStage() > 0)
+        {
+            this.renderVehicle.render(entity, partialTicks);
+            return;
+        }
+
+        /* Sets up the same render state for compiling and calling the list */
+        RenderUtil.beginModelBatch();
+        ModelRenderCache.render(this.renderVehicle, entity.getColor(), () -> this.renderRestingBody(entity));
+        RenderUtil.endModelBatch();
+    }
+
+    /**
+     * Renders the body with the steering and wheels at rest. The cached list is shared by every
+     * vehicle of the same color, so it must not keep the pose of the vehicle that compiled it.
+     * Rendering with no partial ticks only reads the previous tick's values.
+     */
+    private void renderRestingBody(T entity)
+    {
+        if(entity instanceof EntityPoweredVehicle)
+        {
+            EntityPoweredVehicle poweredVehicle = (EntityPoweredVehicle) entity;
+            float wheelAngle = poweredVehicle.prevWheelAngle;
+            float renderWheelAngle = poweredVehicle.prevRenderWheelAngle;
+            poweredVehicle.prevWheelAngle = 0F;
+            poweredVehicle.prevRenderWheelAngle = 0F;
+            try
+            {
+                this.renderVehicle.render(entity, 0F);
+            }
+            finally
+            {
+                poweredVehicle.prevWheelAngle = wheelAngle;
+                poweredVehicle.prevRenderWheelAngle = renderWheelAngle;
+            }
+        }
+        else if(entity instanceof EntityTrailer)
+        {
+            EntityTrailer trailer = (EntityTrailer) entity;
+            float wheelRotation = trailer.prevWheelRotation;
+            trailer.prevWheelRotation = 0F;
+            try
+            {
+                this.renderVehicle.render(entity, 0F);
+            }
+            finally
+            {
+                trailer.prevWheelRotation = wheelRotation;
+            }
+        }
+        else
+        {
+            this.renderVehicle.render(entity, 0F);
+        }
+    }
+
     /**
      *
      * @param entity
@@ -171,6 +255,9 @@ public class RenderVehicleWrapper<T extends EntityVehicle & EntityRaytracer.IEnt
      */
     protected void renderEngine(EntityPoweredVehicle entity, @Nullable PartPosition position)
     {
+        if(this.detail != LevelOfDetail.FULL)
+            return;
+
         GlStateManager.pushMatrix();
         if(entity.isEnginePowered() && entity.getControllingPassenger() != null)
         {
@@ -193,6 +280,9 @@ public class RenderVehicleWrapper<T extends EntityVehicle & EntityRaytracer.IEnt
      */
     protected void renderFuelPort(EntityPoweredVehicle entity, @Nullable PartPosition position)
     {
+        if(this.detail != LevelOfDetail.FULL)
+            return;
+
         if(entity.shouldRenderFuelPort() && entity.requiresFuel())
         {
             Color color = new Color(entity.getColor());
@@ -228,6 +318,9 @@ public class RenderVehicleWrapper<T extends EntityVehicle & EntityRaytracer.IEnt
      */
     protected void renderKeyPort(EntityPoweredVehicle entity)
     {
+        if(this.detail != LevelOfDetail.FULL)
+            return;
+
         if(entity.isKeyNeeded())
         {
             Color color = new Color(entity.getColor());
@@ -3,6 +3,7 @@ package com.mrcrayfish.vehicle.client.render.layer;
 import com.mrcrayfish.vehicle.client.HeldVehicleEvents;
 import com.mrcrayfish.vehicle.common.CommonEvents;
 import com.mrcrayfish.vehicle.common.entity.HeldVehicleDataHandler;
+import com.mrcrayfish.vehicle.common.entity.HeldVehicleDescriptor;
 import com.mrcrayfish.vehicle.entity.EntityVehicle;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.AbstractClientPlayer;
@@ -11,7 +12,6 @@ import net.minecraft.client.renderer.entity.Render;
 import net.minecraft.client.renderer.entity.layers.LayerRenderer;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
@@ -24,28 +24,34 @@ public class LayerHeldVehicle implements LayerRenderer<AbstractClientPlayer>
 {
     private Class<? extends Entity> cachedClass = null;
     private EntityVehicle cachedEntity = null;
+    private HeldVehicleDescriptor cachedDescriptor = null;
 
     @Override
     public void doRenderLayer(AbstractClientPlayer player, float limbSwing, float limbSwingAmount, float partialTicks, float ageInTicks, float netHeadYaw, float headPitch, float scale)
     {
-        NBTTagCompound tagCompound = HeldVehicleDataHandler.getHeldVehicle(player);
-        if(!tagCompound.hasNoTags())
+        HeldVehicleDescriptor descriptor = HeldVehicleDataHandler.getHeldVehicleDescriptor(player);
+        if(descriptor != null)
         {
-            Class<? extends Entity> entityClass = EntityList.getClassFromName(tagCompound.getString("id"));
+            Class<? extends Entity> entityClass = EntityList.getClassFromName(descriptor.getEntityId());
             if(entityClass != null && cachedClass != entityClass && EntityVehicle.class.isAssignableFrom(entityClass))
             {
                 try
                 {
                     cachedClass = entityClass;
                     cachedEntity = (EntityVehicle) entityClass.getDeclaredConstructor(World.class).newInstance(player.world);
-                    cachedEntity.readFromNBT(tagCompound);
-                    cachedEntity.getDataManager().getAll().forEach(dataEntry -> cachedEntity.notifyDataManagerChange(dataEntry.getKey()));
+                    cachedDescriptor = null;
                 }
                 catch(NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e)
                 {
                     e.printStackTrace();
                 }
             }
+            if(cachedEntity != null && cachedDescriptor != descriptor)
+            {
+                cachedDescriptor = descriptor;
+                descriptor.apply(cachedEntity);
+                cachedEntity.getDataManager().getAll().forEach(dataEntry -> cachedEntity.notifyDataManagerChange(dataEntry.getKey()));
+            }
             if(cachedEntity != null && cachedClass != null)
             {
                 GlStateManager.pushMatrix();
@@ -71,6 +77,7 @@ public class LayerHeldVehicle implements LayerRenderer<AbstractClientPlayer>
         {
             cachedClass = null;
             cachedEntity = null;
+            cachedDescriptor = null;
         }
     }
 
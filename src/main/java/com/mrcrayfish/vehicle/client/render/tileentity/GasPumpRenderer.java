@@ -3,9 +3,8 @@ package com.mrcrayfish.vehicle.client.render.tileentity;
 import com.google.common.collect.Lists;
 import com.mrcrayfish.vehicle.VehicleConfig;
 import com.mrcrayfish.vehicle.block.BlockGasPump;
-import com.mrcrayfish.vehicle.client.EntityRaytracer;
 import com.mrcrayfish.vehicle.client.SpecialModels;
-import com.mrcrayfish.vehicle.client.util.HermiteInterpolator;
+import com.mrcrayfish.vehicle.client.util.HoseMesh;
 import com.mrcrayfish.vehicle.init.ModBlocks;
 import com.mrcrayfish.vehicle.init.ModItems;
 import com.mrcrayfish.vehicle.tileentity.TileEntityGasPump;
@@ -32,8 +31,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import org.lwjgl.opengl.GL11;
 
-import javax.vecmath.Matrix4d;
-
 /**
  * Author: MrCrayfish
  */
@@ -80,9 +77,12 @@ public class GasPumpRenderer extends TileEntitySpecialRenderer<TileEntityGasPump
         {
             GlStateManager.translate(x, y, z);
 
+            Vec3d startPos = new Vec3d(pos[0], 0.6425, pos[1]);
+            Vec3d startControl = new Vec3d(0, -5, 0);
+            int segments = VehicleConfig.CLIENT.display.hoseSegments;
+            HoseMesh hoseMesh = gasPump.getHoseMesh();
             if(gasPump.getFuelingEntity() != null)
             {
-                gasPump.setRecentlyUsed(true);
                 EntityPlayer entity = gasPump.getFuelingEntity();
                 double playerX = (double) blockPos.getX() - (entity.prevPosX + (entity.posX - entity.prevPosX) * partialTicks);
                 double playerY = (double) blockPos.getY() - (entity.prevPosY + (entity.posY - entity.prevPosY) * partialTicks);
@@ -108,122 +108,35 @@ public class GasPumpRenderer extends TileEntitySpecialRenderer<TileEntityGasPump
                         hoseVec = new Vec3d(-0.25, 0.5, -0.25).rotateYaw(-entity.rotationYaw * 0.017453292F);
                     }
                 }
-                HermiteInterpolator.Point destPoint = new HermiteInterpolator.Point(new Vec3d(-playerX + hoseVec.x, -playerY + 0.8 + hoseVec.y, -playerZ + hoseVec.z), new Vec3d(lookVec.x * 3, lookVec.y * 3, lookVec.z * 3));
-                gasPump.setCachedSpline(new HermiteInterpolator(new HermiteInterpolator.Point(new Vec3d(pos[0], 0.6425, pos[1]), new Vec3d(0, -5, 0)), destPoint));
+                hoseMesh.update(startPos, startControl, new Vec3d(-playerX + hoseVec.x, -playerY + 0.8 + hoseVec.y, -playerZ + hoseVec.z), new Vec3d(lookVec.x * 3, lookVec.y * 3, lookVec.z * 3), segments);
             }
             else
             {
-                if(gasPump.getCachedSpline() == null || gasPump.isRecentlyUsed())
-                {
-                    gasPump.setRecentlyUsed(false);
-                    double[] destPos = CollisionHelper.fixRotation(facing, 0.345, 1.06, 0.345, 1.06);
-                    HermiteInterpolator.Point destPoint = new HermiteInterpolator.Point(new Vec3d(destPos[0], 0.1, destPos[1]), new Vec3d(0, 3, 0));
-                    gasPump.setCachedSpline(new HermiteInterpolator(new HermiteInterpolator.Point(new Vec3d(pos[0], 0.6425, pos[1]), new Vec3d(0, -5, 0)), destPoint));
-                }
+                double[] destPos = CollisionHelper.fixRotation(facing, 0.345, 1.06, 0.345, 1.06);
+                hoseMesh.update(startPos, startControl, new Vec3d(destPos[0], 0.1, destPos[1]), new Vec3d(0, 3, 0), segments);
             }
 
             //new HermiteInterpolator.Point(new Vec3d(-fuelX, -fuelY, -fuelZ), new Vec3d(fuelRot.x * 3, -fuelRot.y * 3, fuelRot.z * 3))
             //new HermiteInterpolator.Point(new Vec3d(-x + v.x / 2, -y + 1.5 + v.y / 2, -z + v.z / 2), new Vec3d(v.x * 5, v.y, v.z * 5))
             //new HermiteInterpolator.Point(new Vec3d(-x + v.x / 2, -y + 1.25, -z + v.z / 2), new Vec3d(-x + v.x * 10, -y, -z + v.z * 10))
 
-            HermiteInterpolator spline = gasPump.getCachedSpline();
-            if(spline != null)
+            float gray = 0.1F;
+            float red = gray;
+            if(gasPump.getFuelingEntity() != null)
             {
-                float gray = 0.1F;
-                float red = gray;
-                float hoseDiameter = 0.07F;
-                if(gasPump.getFuelingEntity() != null)
-                {
-                    red = (float) (Math.sqrt(gasPump.getFuelingEntity().getDistanceSq(gasPump.getPos().getX() + 0.5, gasPump.getPos().getY() + 0.5, gasPump.getPos().getZ() + 0.5)) / VehicleConfig.SERVER.maxHoseDistance);
-                    red = red * red * red * red * red * red;
-                    red = Math.max(red, gray);
-                }
-
-                GlStateManager.disableTexture2D();
-                Tessellator tessellator = Tessellator.getInstance();
-                BufferBuilder buffer = tessellator.getBuffer();
-                buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_COLOR);
-
-                int segments = VehicleConfig.CLIENT.display.hoseSegments;
-                for(int i = 0; i < spline.getSize() - 1; i++)
-                {
-                    for(int j = 0; j < segments; j++)
-                    {
-                        float percent = j / (float) segments;
-                        HermiteInterpolator.Result start = spline.get(i, percent);
-                        HermiteInterpolator.Result end = spline.get(i, (float) (j + 1) / (float) segments);
-
-                        Matrix4d startMatrix = new Matrix4d();
-                        startMatrix.setIdentity();
-                        EntityRaytracer.MatrixTransformation.createTranslation(start.getPoint().x, start.getPoint().y, start.getPoint().z).transform(startMatrix);
-                        if(i == 0 && j == 0)
-                        {
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.atan2(end.getDir().x, end.getDir().z)), 0, 1, 0).transform(startMatrix);
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.asin(-end.getDir().normalize().y)), 1, 0, 0).transform(startMatrix);
-                        }
-                        else
-                        {
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.atan2(start.getDir().x, start.getDir().z)), 0, 1, 0).transform(startMatrix);
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.asin(-start.getDir().normalize().y)), 1, 0, 0).transform(startMatrix);
-                        }
-
-                        Matrix4d endMatrix = new Matrix4d();
-                        endMatrix.setIdentity();
-                        EntityRaytracer.MatrixTransformation.createTranslation(end.getPoint().x, end.getPoint().y, end.getPoint().z).transform(endMatrix);
-                        if(i == spline.getSize() - 2 && j == segments - 1)
-                        {
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.atan2(start.getDir().x, start.getDir().z)), 0, 1, 0).transform(endMatrix);
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.asin(-start.getDir().normalize().y)), 1, 0, 0).transform(endMatrix);
-                        }
-                        else
-                        {
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.atan2(end.getDir().x, end.getDir().z)), 0, 1, 0).transform(endMatrix);
-                            EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.asin(-end.getDir().normalize().y)), 1, 0, 0).transform(endMatrix);
-                        }
-
-                        Matrix4d startTemp = new Matrix4d(startMatrix);
-                        Matrix4d endTemp = new Matrix4d(endMatrix);
-
-                        EntityRaytracer.MatrixTransformation.createTranslation(hoseDiameter / 2, -hoseDiameter / 2, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(0, hoseDiameter, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(hoseDiameter / 2, hoseDiameter / 2, 0).transform(endTemp);
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(0, -hoseDiameter, 0).transform(endTemp);
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(-hoseDiameter, 0, 0).transform(endTemp);
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(-hoseDiameter, -hoseDiameter, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(hoseDiameter, 0, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-
-                        EntityRaytracer.MatrixTransformation.createTranslation(-hoseDiameter, 0, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(0, 0, 0).transform(endTemp);
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(0, hoseDiameter, 0).transform(endTemp);
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(0, hoseDiameter, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-
-                        EntityRaytracer.MatrixTransformation.createTranslation(hoseDiameter, 0, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(-hoseDiameter, 0, 0).transform(startTemp);
-                        buffer.pos(startTemp.m03, startTemp.m13, startTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(0, 0, 0).transform(endTemp);
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                        EntityRaytracer.MatrixTransformation.createTranslation(hoseDiameter, 0, 0).transform(endTemp);
-                        buffer.pos(endTemp.m03, endTemp.m13, endTemp.m23).color(red, gray, gray, 1.0F).endVertex();
-                    }
-                }
-                tessellator.draw();
-                GlStateManager.enableTexture2D();
+                red = (float) (Math.sqrt(gasPump.getFuelingEntity().getDistanceSq(gasPump.getPos().getX() + 0.5, gasPump.getPos().getY() + 0.5, gasPump.getPos().getZ() + 0.5)) / VehicleConfig.SERVER.maxHoseDistance);
+                red = red * red * red * red * red * red;
+                red = Math.max(red, gray);
             }
 
+            GlStateManager.disableTexture2D();
+            Tessellator tessellator = Tessellator.getInstance();
+            BufferBuilder buffer = tessellator.getBuffer();
+            buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_COLOR);
+            hoseMesh.render(buffer, red, gray, gray);
+            tessellator.draw();
+            GlStateManager.enableTexture2D();
+
             if(gasPump.getFuelingEntity() == null)
             {
                 GlStateManager.pushMatrix();
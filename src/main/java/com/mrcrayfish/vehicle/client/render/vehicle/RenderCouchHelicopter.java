@@ -79,4 +79,10 @@ public class RenderCouchHelicopter extends AbstractRenderVehicle<EntitySofacopte
             GlStateManager.translate(-offsetX, -offsetY, -offsetZ);
         }
     }
+
+    @Override
+    public boolean canCacheBody()
+    {
+        return false;
+    }
 }
\ No newline at end of file
@@ -78,4 +78,10 @@ public class RenderFertilizerTrailer extends AbstractRenderTrailer<EntityFertili
         }
         GlStateManager.popMatrix();
     }
+
+    @Override
+    public boolean canCacheBody()
+    {
+        return false;
+    }
 }
@@ -86,4 +86,10 @@ public class RenderFluidTrailer extends AbstractRenderTrailer<EntityFluidTrailer
             tessellator.draw();
         }
     }
+
+    @Override
+    public boolean canCacheBody()
+    {
+        return false;
+    }
 }
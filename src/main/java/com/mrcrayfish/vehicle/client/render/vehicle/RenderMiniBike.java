@@ -102,4 +102,10 @@ public class RenderMiniBike extends AbstractRenderVehicle<EntityMiniBike>
             GlStateManager.translate(-offsetX, -offsetY, -offsetZ);
         }
     }
+
+    @Override
+    public boolean canCacheBody()
+    {
+        return false;
+    }
 }
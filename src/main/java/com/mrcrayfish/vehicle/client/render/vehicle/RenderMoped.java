@@ -159,4 +159,10 @@ public class RenderMoped extends AbstractRenderVehicle<EntityMoped>
             GlStateManager.translate(-offsetX, -offsetY, -offsetZ);
         }
     }
+
+    @Override
+    public boolean canCacheBody()
+    {
+        return false;
+    }
 }
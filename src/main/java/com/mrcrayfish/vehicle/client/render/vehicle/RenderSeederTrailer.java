@@ -99,4 +99,10 @@ public class RenderSeederTrailer extends AbstractRenderTrailer<EntitySeederTrail
         }
         GlStateManager.popMatrix();
     }
+
+    @Override
+    public boolean canCacheBody()
+    {
+        return false;
+    }
 }
@@ -130,4 +130,10 @@ public class RenderSportsPlane extends AbstractRenderVehicle<EntitySportsPlane>
             GlStateManager.translate(-offsetX, -offsetY, -offsetX);
         }
     }
+
+    @Override
+    public boolean canCacheBody()
+    {
+        return false;
+    }
 }
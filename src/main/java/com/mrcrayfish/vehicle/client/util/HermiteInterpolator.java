@@ -2,11 +2,6 @@ package com.mrcrayfish.vehicle.client.util;
 
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
-import org.apache.commons.lang3.tuple.Pair;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 /**
  * Utility class to help with hermite interpolation. Based on work by Nils Pipenbrinck
@@ -14,7 +9,6 @@ import java.util.Map;
  */
 public class HermiteInterpolator
 {
-    private Map<Pair<Integer, Float>, Result> resultCache = new HashMap<>();
     private Point[] points;
 
     public HermiteInterpolator(Point ... points)
@@ -22,19 +16,34 @@ public class HermiteInterpolator
         this.points = points;
     }
 
-    public Result get(int index, float progress)
+    /**
+     * Samples every segment of the spline at a fixed resolution. Each segment takes up
+     * (segments + 1) samples, both ends included, and each sample is stored as six values: the
+     * position followed by the direction.
+     *
+     * @param segments the number of parts to split each segment into
+     * @return the flat array of samples
+     */
+    public double[] sample(int segments)
     {
-        return this.resultCache.computeIfAbsent(Pair.of(index, progress), pair -> {
-            Point p1 = this.getPoint(index);
-            Point p2 = this.getPoint(index + 1);
-            double pX = point(p1.pos.x, p2.pos.x, p1.control.x, p2.control.x, progress);
-            double pY = point(p1.pos.y, p2.pos.y, p1.control.y, p2.control.y, progress);
-            double pZ = point(p1.pos.z, p2.pos.z, p1.control.z, p2.control.z, progress);
-            double aX = angle(p1.pos.x, p2.pos.x, p1.control.x, p2.control.x, progress);
-            double aY = angle(p1.pos.y, p2.pos.y, p1.control.y, p2.control.y, progress);
-            double aZ = angle(p1.pos.z, p2.pos.z, p1.control.z, p2.control.z, progress);
-            return new Result(new Vec3d(pX, pY, pZ), new Vec3d(aX, aY, aZ));
-        });
+        double[] samples = new double[(this.points.length - 1) * (segments + 1) * 6];
+        int index = 0;
+        for(int i = 0; i < this.points.length - 1; i++)
+        {
+            Point p1 = this.points[i];
+            Point p2 = this.points[i + 1];
+            for(int j = 0; j <= segments; j++)
+            {
+                double progress = (float) j / (float) segments;
+                samples[index++] = point(p1.pos.x, p2.pos.x, p1.control.x, p2.control.x, progress);
+                samples[index++] = point(p1.pos.y, p2.pos.y, p1.control.y, p2.control.y, progress);
+                samples[index++] = point(p1.pos.z, p2.pos.z, p1.control.z, p2.control.z, progress);
+                samples[index++] = angle(p1.pos.x, p2.pos.x, p1.control.x, p2.control.x, progress);
+                samples[index++] = angle(p1.pos.y, p2.pos.y, p1.control.y, p2.control.y, progress);
+                samples[index++] = angle(p1.pos.z, p2.pos.z, p1.control.z, p2.control.z, progress);
+            }
+        }
+        return samples;
     }
 
     public Point getPoint(int index)
@@ -85,26 +94,4 @@ public class HermiteInterpolator
             this.control = control;
         }
     }
-
-    public static class Result
-    {
-        Vec3d point;
-        Vec3d direction;
-
-        public Result(Vec3d point, Vec3d direction)
-        {
-            this.point = point;
-            this.direction = direction;
-        }
-
-        public Vec3d getPoint()
-        {
-            return point;
-        }
-
-        public Vec3d getDir()
-        {
-            return direction;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.mrcrayfish.vehicle.client.util;
+
+import com.mrcrayfish.vehicle.client.EntityRaytracer;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.util.math.Vec3d;
+
+import javax.vecmath.Matrix4d;
+
+/**
+ * The vertices of a gas pump hose, which follows a hermite spline between the pump and the end of
+ * the hose. The vertices are kept in a flat array of a fixed size for the number of segments and
+ * are only rebuilt when the end points of the hose or the number of segments change.
+ *
+ * Author: MrCrayfish
+ */
+public class HoseMesh
+{
+    private static final float HOSE_DIAMETER = 0.07F;
+    private static final int VERTICES_PER_SEGMENT = 16;
+
+    private final double[] endPoints = new double[12];
+    private double[] vertices = new double[0];
+    private int segments = -1;
+
+    /**
+     * Rebuilds the mesh if the given end points or segment count differ from the ones it was
+     * last built with.
+     */
+    public void update(Vec3d startPos, Vec3d startControl, Vec3d endPos, Vec3d endControl, int segments)
+    {
+        boolean changed = segments != this.segments;
+        changed |= this.setEndPoint(0, startPos);
+        changed |= this.setEndPoint(3, startControl);
+        changed |= this.setEndPoint(6, endPos);
+        changed |= this.setEndPoint(9, endControl);
+        if(changed)
+        {
+            this.segments = segments;
+            HermiteInterpolator spline = new HermiteInterpolator(new HermiteInterpolator.Point(startPos, startControl), new HermiteInterpolator.Point(endPos, endControl));
+            this.build(spline.sample(segments), spline.getSize() - 1);
+        }
+    }
+
+    private boolean setEndPoint(int index, Vec3d vec)
+    {
+        if(this.endPoints[index] == vec.x && this.endPoints[index + 1] == vec.y && this.endPoints[index + 2] == vec.z)
+            return false;
+
+        this.endPoints[index] = vec.x;
+        this.endPoints[index + 1] = vec.y;
+        this.endPoints[index + 2] = vec.z;
+        return true;
+    }
+
+    private void build(double[] samples, int splineSegments)
+    {
+        int size = splineSegments * this.segments * VERTICES_PER_SEGMENT * 3;
+        if(this.vertices.length != size)
+        {
+            this.vertices = new double[size];
+        }
+
+        int index = 0;
+        for(int i = 0; i < splineSegments; i++)
+        {
+            for(int j = 0; j < this.segments; j++)
+            {
+                int start = (i * (this.segments + 1) + j) * 6;
+                int end = start + 6;
+
+                Matrix4d startMatrix = new Matrix4d();
+                startMatrix.setIdentity();
+                EntityRaytracer.MatrixTransformation.createTranslation(samples[start], samples[start + 1], samples[start + 2]).transform(startMatrix);
+                rotate(startMatrix, samples, i == 0 && j == 0 ? end : start);
+
+                Matrix4d endMatrix = new Matrix4d();
+                endMatrix.setIdentity();
+                EntityRaytracer.MatrixTransformation.createTranslation(samples[end], samples[end + 1], samples[end + 2]).transform(endMatrix);
+                rotate(endMatrix, samples, i == splineSegments - 1 && j == this.segments - 1 ? start : end);
+
+                float d = HOSE_DIAMETER;
+                index = this.put(index, startMatrix, d / 2, -d / 2);
+                index = this.put(index, startMatrix, 0, d);
+                index = this.put(index, endMatrix, d / 2, d / 2);
+                index = this.put(index, endMatrix, 0, -d);
+
+                index = this.put(index, endMatrix, 0, 0);
+                index = this.put(index, endMatrix, -d, 0);
+                index = this.put(index, startMatrix, -d, -d);
+                index = this.put(index, startMatrix, d, 0);
+
+                index = this.put(index, startMatrix, -d, 0);
+                index = this.put(index, endMatrix, 0, 0);
+                index = this.put(index, endMatrix, 0, d);
+                index = this.put(index, startMatrix, 0, d);
+
+                index = this.put(index, startMatrix, d, 0);
+                index = this.put(index, startMatrix, -d, 0);
+                index = this.put(index, endMatrix, 0, 0);
+                index = this.put(index, endMatrix, d, 0);
+            }
+        }
+    }
+
+    /* Rotates the matrix to face along the direction of the sample at the given offset */
+    private static void rotate(Matrix4d matrix, double[] samples, int offset)
+    {
+        double dirX = samples[offset + 3];
+        double dirY = samples[offset + 4];
+        double dirZ = samples[offset + 5];
+        double length = Math.sqrt(dirX * dirX + dirY * dirY + dirZ * dirZ);
+        EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.atan2(dirX, dirZ)), 0, 1, 0).transform(matrix);
+        EntityRaytracer.MatrixTransformation.createRotation(Math.toDegrees(Math.asin(length < 1.0E-4 ? 0 : -dirY / length)), 1, 0, 0).transform(matrix);
+    }
+
+    /* Moves the matrix across the face of the hose and stores the position it ends up at */
+    private int put(int index, Matrix4d matrix, double x, double y)
+    {
+        EntityRaytracer.MatrixTransformation.createTranslation(x, y, 0).transform(matrix);
+        this.vertices[index++] = matrix.m03;
+        this.vertices[index++] = matrix.m13;
+        this.vertices[index++] = matrix.m23;
+        return index;
+    }
+
+    /**
+     * Adds the quads of the hose to a buffer using the position and color format
+     */
+    public void render(BufferBuilder buffer, float red, float green, float blue)
+    {
+        for(int i = 0; i < this.vertices.length; i += 3)
+        {
+            buffer.pos(this.vertices[i], this.vertices[i + 1], this.vertices[i + 2]).color(red, green, blue, 1.0F).endVertex();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.mrcrayfish.vehicle.command;
+
+import com.mrcrayfish.vehicle.network.NetworkStats;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraftforge.fml.relauncher.Side;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Author: MrCrayfish
+ */
+public class CommandVehicle extends CommandBase
+{
+    @Override
+    public String getName()
+    {
+        return "vehicle";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender)
+    {
+        return "commands.vehicle.usage";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException
+    {
+        if(args.length < 1 || !args[0].equals("netstats"))
+        {
+            throw new WrongUsageException("commands.vehicle.usage");
+        }
+
+        if(args.length > 1)
+        {
+            if(!args[1].equals("reset"))
+            {
+                throw new WrongUsageException("commands.vehicle.netstats.usage");
+            }
+            NetworkStats.reset();
+            notifyCommandListener(sender, this, "commands.vehicle.netstats.reset");
+            return;
+        }
+
+        List<String> lines = NetworkStats.getSummary(Side.SERVER);
+        if(lines.isEmpty())
+        {
+            sender.sendMessage(new TextComponentTranslation("commands.vehicle.netstats.empty"));
+            return;
+        }
+        lines.forEach(line -> sender.sendMessage(new TextComponentString(line)));
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos)
+    {
+        if(args.length == 1)
+        {
+            return getListOfStringsMatchingLastWord(args, "netstats");
+        }
+        if(args.length == 2 && args[0].equals("netstats"))
+        {
+            return getListOfStringsMatchingLastWord(args, "reset");
+        }
+        return Collections.emptyList();
+    }
+}
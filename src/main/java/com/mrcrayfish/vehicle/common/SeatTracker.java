@@ -4,8 +4,7 @@ import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.mrcrayfish.vehicle.entity.EntityVehicle;
 import com.mrcrayfish.vehicle.entity.VehicleProperties;
-import com.mrcrayfish.vehicle.network.PacketHandler;
-import com.mrcrayfish.vehicle.network.message.MessageSyncPlayerSeat;
+import com.mrcrayfish.vehicle.network.SyncQueue;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
@@ -16,6 +15,7 @@ import net.minecraftforge.fml.common.network.ByteBufUtils;
 
 import java.lang.ref.WeakReference;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -38,6 +38,17 @@ public class SeatTracker
         return ImmutableMap.copyOf(this.playerSeatMap);
     }
 
+    /**
+     * Replaces the seats of every player with the seats synced from the server.
+     *
+     * @param playerSeatMap the seat index of each player uuid
+     */
+    public void setPlayerSeatMap(Map<UUID, Integer> playerSeatMap)
+    {
+        this.playerSeatMap.clear();
+        this.playerSeatMap.putAll(playerSeatMap);
+    }
+
     public int getSeatIndex(UUID uuid)
     {
         if(this.playerSeatMap.containsKey(uuid))
@@ -62,7 +73,7 @@ public class SeatTracker
         EntityVehicle vehicle = this.vehicleRef.get();
         if(vehicle != null && !vehicle.world.isRemote)
         {
-            PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncPlayerSeat(vehicle.getEntityId(), index, uuid), vehicle);
+            SyncQueue.queueSeats(vehicle);
         }
     }
 
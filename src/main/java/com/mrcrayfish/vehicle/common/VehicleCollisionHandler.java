@@ -0,0 +1,146 @@
+package com.mrcrayfish.vehicle.common;
+
+import com.mrcrayfish.vehicle.entity.EntityPoweredVehicle;
+import com.mrcrayfish.vehicle.entity.EntityTrailer;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Resolves vehicle collisions once per tick. Vehicles that are able to collide queue themselves
+ * while updating, then at the end of the tick they are bucketed into a grid so each pair of
+ * colliding vehicles is only handled once. Other entities are still found by querying the world.
+ *
+ * Author: MrCrayfish
+ */
+public class VehicleCollisionHandler
+{
+    /* Each grid cell covers 4x4 blocks */
+    private static final int CELL_SHIFT = 2;
+
+    /* Kept separate so the integrated server and client threads never share a list */
+    private static final Map<World, List<EntityPoweredVehicle>> SERVER_QUEUE = new WeakHashMap<>();
+    private static final Map<World, List<EntityPoweredVehicle>> CLIENT_QUEUE = new WeakHashMap<>();
+
+    public static void register()
+    {
+        MinecraftForge.EVENT_BUS.register(new VehicleCollisionHandler());
+    }
+
+    public static void queue(EntityPoweredVehicle vehicle)
+    {
+        Map<World, List<EntityPoweredVehicle>> queue = vehicle.world.isRemote ? CLIENT_QUEUE : SERVER_QUEUE;
+        queue.computeIfAbsent(vehicle.world, world -> new ArrayList<>()).add(vehicle);
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if(event.phase == TickEvent.Phase.END)
+        {
+            Map<World, List<EntityPoweredVehicle>> queue = event.world.isRemote ? CLIENT_QUEUE : SERVER_QUEUE;
+            List<EntityPoweredVehicle> vehicles = queue.get(event.world);
+            if(vehicles != null)
+            {
+                resolve(event.world, vehicles);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event)
+    {
+        if(event.phase == TickEvent.Phase.END)
+        {
+            CLIENT_QUEUE.forEach(VehicleCollisionHandler::resolve);
+        }
+    }
+
+    private static void resolve(World world, List<EntityPoweredVehicle> vehicles)
+    {
+        if(vehicles.isEmpty())
+            return;
+
+        Set<Entity> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+        Long2ObjectMap<List<EntityPoweredVehicle>> grid = new Long2ObjectOpenHashMap<>();
+        for(EntityPoweredVehicle vehicle : vehicles)
+        {
+            if(vehicle.isDead || !queued.add(vehicle))
+                continue;
+
+            AxisAlignedBB box = vehicle.getEntityBoundingBox();
+            int minX = MathHelper.floor(box.minX) >> CELL_SHIFT;
+            int maxX = MathHelper.floor(box.maxX) >> CELL_SHIFT;
+            int minZ = MathHelper.floor(box.minZ) >> CELL_SHIFT;
+            int maxZ = MathHelper.floor(box.maxZ) >> CELL_SHIFT;
+            for(int x = minX; x <= maxX; x++)
+            {
+                for(int z = minZ; z <= maxZ; z++)
+                {
+                    grid.computeIfAbsent(getCellKey(x, z), key -> new ArrayList<>()).add(vehicle);
+                }
+            }
+        }
+
+        /* Collisions with entities that are not queued vehicles */
+        for(Entity entity : queued)
+        {
+            EntityPoweredVehicle vehicle = (EntityPoweredVehicle) entity;
+            List<Entity> list = world.getEntitiesInAABBexcluding(vehicle, vehicle.getEntityBoundingBox(), e -> !(e instanceof EntityItem || e instanceof EntityTrailer || queued.contains(e)));
+            for(Entity other : list)
+            {
+                vehicle.applyEntityCollision(other);
+            }
+        }
+
+        /* Collisions between queued vehicles, each pair is only handled in the first cell they share */
+        for(Long2ObjectMap.Entry<List<EntityPoweredVehicle>> entry : grid.long2ObjectEntrySet())
+        {
+            List<EntityPoweredVehicle> cell = entry.getValue();
+            int cellX = (int) (entry.getLongKey() >> 32);
+            int cellZ = (int) entry.getLongKey();
+            for(int i = 0; i < cell.size(); i++)
+            {
+                EntityPoweredVehicle first = cell.get(i);
+                AxisAlignedBB firstBox = first.getEntityBoundingBox();
+                for(int j = i + 1; j < cell.size(); j++)
+                {
+                    EntityPoweredVehicle second = cell.get(j);
+                    AxisAlignedBB secondBox = second.getEntityBoundingBox();
+                    if(!firstBox.intersects(secondBox))
+                        continue;
+
+                    int sharedX = Math.max(MathHelper.floor(firstBox.minX), MathHelper.floor(secondBox.minX)) >> CELL_SHIFT;
+                    int sharedZ = Math.max(MathHelper.floor(firstBox.minZ), MathHelper.floor(secondBox.minZ)) >> CELL_SHIFT;
+                    if(sharedX != cellX || sharedZ != cellZ)
+                        continue;
+
+                    first.applyEntityCollision(second);
+                    second.applyEntityCollision(first);
+                }
+            }
+        }
+
+        vehicles.clear();
+    }
+
+    private static long getCellKey(int x, int z)
+    {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
@@ -42,11 +42,26 @@ public class HeldVehicleDataHandler
         IHeldVehicle handler = getHandler(player);
         if(handler != null)
         {
-            return !handler.getVehicleTag().hasNoTags();
+            return handler.getDescriptor() != null;
         }
         return false;
     }
 
+    /**
+     * Gets the render descriptor of the vehicle the player is holding. Unlike the full vehicle tag,
+     * this is also available on clients.
+     */
+    @Nullable
+    public static HeldVehicleDescriptor getHeldVehicleDescriptor(EntityPlayer player)
+    {
+        IHeldVehicle handler = getHandler(player);
+        if(handler != null)
+        {
+            return handler.getDescriptor();
+        }
+        return null;
+    }
+
     public static NBTTagCompound getHeldVehicle(EntityPlayer player)
     {
         IHeldVehicle handler = getHandler(player);
@@ -66,8 +81,21 @@ public class HeldVehicleDataHandler
         }
         if(!player.world.isRemote)
         {
-            PacketHandler.INSTANCE.sendTo(new MessageSyncHeldVehicle(player.getEntityId(), vehicleTag), (EntityPlayerMP) player);
-            PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncHeldVehicle(player.getEntityId(), vehicleTag), player);
+            MessageSyncHeldVehicle message = new MessageSyncHeldVehicle(player.getEntityId(), getHeldVehicleDescriptor(player));
+            PacketHandler.INSTANCE.sendTo(message, (EntityPlayerMP) player);
+            PacketHandler.INSTANCE.sendToAllTracking(message, player);
+        }
+    }
+
+    /**
+     * Sets the vehicle a player is holding on the client, which only knows how to render it.
+     */
+    public static void setHeldVehicleDescriptor(EntityPlayer player, @Nullable HeldVehicleDescriptor descriptor)
+    {
+        IHeldVehicle handler = getHandler(player);
+        if(handler != null)
+        {
+            handler.setDescriptor(descriptor);
         }
     }
 
@@ -96,8 +124,11 @@ public class HeldVehicleDataHandler
         if(event.getTarget() instanceof EntityPlayer)
         {
             EntityPlayer player = (EntityPlayer) event.getTarget();
-            NBTTagCompound vehicleTag = getHeldVehicle(player);
-            PacketHandler.INSTANCE.sendTo(new MessageSyncHeldVehicle(player.getEntityId(), vehicleTag), (EntityPlayerMP) event.getEntityPlayer());
+            HeldVehicleDescriptor descriptor = getHeldVehicleDescriptor(player);
+            if(descriptor != null)
+            {
+                PacketHandler.INSTANCE.sendTo(new MessageSyncHeldVehicle(player.getEntityId(), descriptor), (EntityPlayerMP) event.getEntityPlayer());
+            }
         }
     }
 
@@ -108,8 +139,11 @@ public class HeldVehicleDataHandler
         if(entity instanceof EntityPlayer && !event.getWorld().isRemote)
         {
             EntityPlayer player = (EntityPlayer) entity;
-            NBTTagCompound vehicleTag = getHeldVehicle(player);
-            PacketHandler.INSTANCE.sendTo(new MessageSyncHeldVehicle(player.getEntityId(), vehicleTag), (EntityPlayerMP) player);
+            HeldVehicleDescriptor descriptor = getHeldVehicleDescriptor(player);
+            if(descriptor != null)
+            {
+                PacketHandler.INSTANCE.sendTo(new MessageSyncHeldVehicle(player.getEntityId(), descriptor), (EntityPlayerMP) player);
+            }
             //PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncHeldVehicle(player.getEntityId(), vehicleTag), player);
         }
     }
@@ -118,16 +152,20 @@ public class HeldVehicleDataHandler
     {
         void setVehicleTag(NBTTagCompound tagCompound);
         NBTTagCompound getVehicleTag();
+        void setDescriptor(@Nullable HeldVehicleDescriptor descriptor);
+        @Nullable HeldVehicleDescriptor getDescriptor();
     }
 
     public static class HeldVehicle implements IHeldVehicle
     {
         private NBTTagCompound tagCompound = new NBTTagCompound();
+        private HeldVehicleDescriptor descriptor;
 
         @Override
         public void setVehicleTag(NBTTagCompound tagCompound)
         {
             this.tagCompound = tagCompound;
+            this.descriptor = tagCompound.hasNoTags() ? null : HeldVehicleDescriptor.fromTag(tagCompound);
         }
 
         @Override
@@ -135,6 +173,19 @@ public class HeldVehicleDataHandler
         {
             return tagCompound;
         }
+
+        @Override
+        public void setDescriptor(@Nullable HeldVehicleDescriptor descriptor)
+        {
+            this.descriptor = descriptor;
+        }
+
+        @Nullable
+        @Override
+        public HeldVehicleDescriptor getDescriptor()
+        {
+            return descriptor;
+        }
     }
 
     public static class Storage implements Capability.IStorage<IHeldVehicle>
@@ -0,0 +1,136 @@
+package com.mrcrayfish.vehicle.common.entity;
+
+import com.mrcrayfish.vehicle.entity.EngineTier;
+import com.mrcrayfish.vehicle.entity.EntityPoweredVehicle;
+import com.mrcrayfish.vehicle.entity.EntityVehicle;
+import com.mrcrayfish.vehicle.entity.WheelType;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+/**
+ * The parts of a held vehicle that are needed to render it. Only the server keeps the full tag of
+ * a held vehicle, clients are sent this instead so inventories and other data that isn't visible
+ * don't have to be sent to everyone tracking the player.
+ *
+ * Author: MrCrayfish
+ */
+public class HeldVehicleDescriptor
+{
+    private static final int HAS_ENGINE = 1;
+    private static final int HAS_WHEELS = 2;
+
+    private final String entityId;
+    private final int color;
+    private final boolean engine;
+    private final int engineTier;
+    private final boolean wheels;
+    private final int wheelType;
+    private final int wheelColor;
+
+    private HeldVehicleDescriptor(String entityId, int color, boolean engine, int engineTier, boolean wheels, int wheelType, int wheelColor)
+    {
+        this.entityId = entityId;
+        this.color = color;
+        this.engine = engine;
+        this.engineTier = engineTier;
+        this.wheels = wheels;
+        this.wheelType = wheelType;
+        this.wheelColor = wheelColor;
+    }
+
+    /**
+     * Creates a descriptor from the tag of a held vehicle. Missing values use the same defaults as
+     * a newly created vehicle.
+     */
+    public static HeldVehicleDescriptor fromTag(NBTTagCompound compound)
+    {
+        int color = 16383998;
+        if(compound.hasKey("color", Constants.NBT.TAG_INT_ARRAY))
+        {
+            int[] c = compound.getIntArray("color");
+            if(c.length == 3)
+            {
+                color = ((c[0] & 0xFF) << 16) | ((c[1] & 0xFF) << 8) | ((c[2] & 0xFF));
+            }
+        }
+        else if(compound.hasKey("color", Constants.NBT.TAG_INT))
+        {
+            int index = compound.getInteger("color");
+            if(index >= 0 && index < EntityVehicle.DYE_TO_COLOR.length)
+            {
+                color = EntityVehicle.DYE_TO_COLOR[index];
+            }
+        }
+        boolean engine = compound.getBoolean("hasEngine");
+        int engineTier = compound.getInteger("engineTier");
+        boolean wheels = !compound.hasKey("hasWheels", Constants.NBT.TAG_BYTE) || compound.getBoolean("hasWheels");
+        int wheelType = compound.getInteger("wheelType");
+        int wheelColor = compound.hasKey("wheelColor", Constants.NBT.TAG_INT) ? compound.getInteger("wheelColor") : -1;
+        return new HeldVehicleDescriptor(compound.getString("id"), color, engine, engineTier, wheels, wheelType, wheelColor);
+    }
+
+    public static HeldVehicleDescriptor read(ByteBuf buf)
+    {
+        String entityId = ByteBufUtils.readUTF8String(buf);
+        int color = buf.readInt();
+        int flags = buf.readByte();
+        int engineTier = buf.readByte();
+        int wheelType = buf.readByte();
+        int wheelColor = buf.readInt();
+        return new HeldVehicleDescriptor(entityId, color, (flags & HAS_ENGINE) != 0, engineTier, (flags & HAS_WHEELS) != 0, wheelType, wheelColor);
+    }
+
+    public void write(ByteBuf buf)
+    {
+        ByteBufUtils.writeUTF8String(buf, this.entityId);
+        buf.writeInt(this.color);
+        buf.writeByte((this.engine ? HAS_ENGINE : 0) | (this.wheels ? HAS_WHEELS : 0));
+        buf.writeByte(this.engineTier);
+        buf.writeByte(this.wheelType);
+        buf.writeInt(this.wheelColor);
+    }
+
+    public String getEntityId()
+    {
+        return entityId;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if(!(obj instanceof HeldVehicleDescriptor)) return false;
+        HeldVehicleDescriptor other = (HeldVehicleDescriptor) obj;
+        return entityId.equals(other.entityId) && color == other.color && engine == other.engine && engineTier == other.engineTier && wheels == other.wheels && wheelType == other.wheelType && wheelColor == other.wheelColor;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = entityId.hashCode();
+        result = 31 * result + color;
+        result = 31 * result + (engine ? 1 : 0);
+        result = 31 * result + engineTier;
+        result = 31 * result + (wheels ? 1 : 0);
+        result = 31 * result + wheelType;
+        return 31 * result + wheelColor;
+    }
+
+    /**
+     * Applies the color, engine and wheels to a vehicle so it renders like the held vehicle.
+     */
+    public void apply(EntityVehicle vehicle)
+    {
+        vehicle.setColor(this.color);
+        if(vehicle instanceof EntityPoweredVehicle)
+        {
+            EntityPoweredVehicle poweredVehicle = (EntityPoweredVehicle) vehicle;
+            poweredVehicle.setEngine(this.engine);
+            poweredVehicle.setEngineTier(EngineTier.getType(this.engineTier));
+            poweredVehicle.setWheels(this.wheels);
+            poweredVehicle.setWheelType(WheelType.getType(this.wheelType));
+            poweredVehicle.setWheelColor(this.wheelColor);
+        }
+    }
+}
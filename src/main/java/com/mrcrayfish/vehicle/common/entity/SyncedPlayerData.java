@@ -3,9 +3,8 @@ package com.mrcrayfish.vehicle.common.entity;
 import com.google.common.base.Optional;
 import com.mrcrayfish.vehicle.Reference;
 import com.mrcrayfish.vehicle.network.PacketHandler;
+import com.mrcrayfish.vehicle.network.SyncQueue;
 import com.mrcrayfish.vehicle.network.message.MessageSyncPlayerData;
-import com.mrcrayfish.vehicle.network.message.MessageSyncPlayerGasPumpPos;
-import com.mrcrayfish.vehicle.network.message.MessageSyncPlayerTrailer;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -59,8 +58,7 @@ public class SyncedPlayerData
         }
         if(!player.world.isRemote)
         {
-            PacketHandler.INSTANCE.sendTo(new MessageSyncPlayerTrailer(player.getEntityId(), trailer), (EntityPlayerMP) player);
-            PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncPlayerTrailer(player.getEntityId(), trailer), player);
+            SyncQueue.queuePlayerData(player);
         }
     }
 
@@ -83,8 +81,7 @@ public class SyncedPlayerData
         }
         if(!player.world.isRemote)
         {
-            PacketHandler.INSTANCE.sendTo(new MessageSyncPlayerGasPumpPos(player.getEntityId(), optional), (EntityPlayerMP) player);
-            PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncPlayerGasPumpPos(player.getEntityId(), optional), player);
+            SyncQueue.queuePlayerData(player);
         }
     }
 
@@ -26,6 +26,13 @@ import net.minecraft.world.ILockableContainer;
 import net.minecraft.world.storage.loot.ILootContainer;
 import net.minecraftforge.common.util.Constants;
 
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Author: MrCrayfish
  */
@@ -33,13 +40,90 @@ public class StorageInventory extends InventoryBasic
 {
     private IStorage wrapper;
 
+    /* The contents tracking clients were last sent, used to only sync slots that changed */
+    private ItemStack[] syncedStacks;
+
+    /* Index of empty slots and of slots that can still be merged into, see rebuildIndexIfDirty */
+    private final BitSet freeSlots = new BitSet();
+    private final Map<SlotKey, BitSet> mergeableSlots = new HashMap<>();
+    private SlotKey[] slotKeys;
+    private boolean indexDirty = true;
+    private boolean changingSlot;
+
     public StorageInventory(String title, boolean customName, int slotCount, IStorage wrapper)
     {
         super(title, customName, slotCount);
         this.wrapper = wrapper;
+        this.syncedStacks = new ItemStack[slotCount];
+        Arrays.fill(this.syncedStacks, ItemStack.EMPTY);
+        this.slotKeys = new SlotKey[slotCount];
+    }
+
+    /**
+     * Gets the slots that changed since tracking clients were last synced and marks them as synced.
+     * Stacks are compared against a copy of what was last sent, so changes made directly to a stack
+     * are detected as well.
+     *
+     * @return the changed slot indexes or null if nothing changed
+     */
+    @Nullable
+    public int[] pollChangedSlots()
+    {
+        int[] changed = null;
+        int count = 0;
+        for(int i = 0; i < this.getSizeInventory(); i++)
+        {
+            ItemStack stack = this.getStackInSlot(i);
+            if(!ItemStack.areItemStacksEqual(this.syncedStacks[i], stack))
+            {
+                if(changed == null)
+                {
+                    changed = new int[this.getSizeInventory()];
+                }
+                changed[count++] = i;
+                this.syncedStacks[i] = stack.copy();
+            }
+        }
+        return changed != null ? Arrays.copyOf(changed, count) : null;
+    }
+
+    /**
+     * Marks the current contents as synced. Used after loading, before any client is tracking the
+     * inventory.
+     */
+    public void markSynced()
+    {
+        for(int i = 0; i < this.getSizeInventory(); i++)
+        {
+            this.syncedStacks[i] = this.getStackInSlot(i).copy();
+        }
     }
 
     public boolean addItemStack(final ItemStack stack)
+    {
+        this.rebuildIndexIfDirty();
+        return this.insertItemStack(stack);
+    }
+
+    /**
+     * Adds all of the given stacks in one pass. Each stack is shrunk by the amount that was added,
+     * so anything left over can be passed on or dropped.
+     *
+     * @return true if every stack was added completely
+     */
+    public boolean addItemStacks(List<ItemStack> stacks)
+    {
+        this.rebuildIndexIfDirty();
+        boolean added = true;
+        for(ItemStack stack : stacks)
+        {
+            this.insertItemStack(stack);
+            added &= stack.isEmpty();
+        }
+        return added;
+    }
+
+    private boolean insertItemStack(final ItemStack stack)
     {
         if(stack.isEmpty())
         {
@@ -51,7 +135,7 @@ public class StorageInventory extends InventoryBasic
             {
                 if(stack.isItemDamaged())
                 {
-                    int slot = getFirstEmptyStack();
+                    int slot = this.findFreeSlot();
                     if(slot >= 0)
                     {
                         this.setInventorySlotContents(slot, stack.copy());
@@ -65,14 +149,26 @@ public class StorageInventory extends InventoryBasic
                 }
                 else
                 {
-                    int i;
-                    do
+                    while(!stack.isEmpty())
                     {
-                        i = stack.getCount();
-                        stack.setCount(this.storePartialItemStack(stack));
+                        int slot = this.findMergeableSlot(stack);
+                        if(slot == -1)
+                        {
+                            slot = this.findFreeSlot();
+                        }
+                        if(slot == -1)
+                        {
+                            break;
+                        }
+                        int i = stack.getCount();
+                        stack.setCount(this.addResource(slot, stack));
+                        this.updateIndex(slot);
+                        if(stack.getCount() == i)
+                        {
+                            break;
+                        }
                     }
-                    while(!stack.isEmpty() && stack.getCount() < i);
-                    return stack.getCount() < i;
+                    return stack.isEmpty();
                 }
             }
             catch(Throwable throwable)
@@ -87,43 +183,150 @@ public class StorageInventory extends InventoryBasic
         }
     }
 
-    private int getFirstEmptyStack()
+    @Override
+    public void setInventorySlotContents(int index, ItemStack stack)
     {
-        for(int i = 0; i < this.getSizeInventory(); i++)
+        this.changingSlot = true;
+        try
+        {
+            super.setInventorySlotContents(index, stack);
+        }
+        finally
+        {
+            this.changingSlot = false;
+        }
+        this.updateIndex(index);
+    }
+
+    @Override
+    public ItemStack decrStackSize(int index, int count)
+    {
+        ItemStack stack;
+        this.changingSlot = true;
+        try
         {
-            if(this.getStackInSlot(i).isEmpty())
+            stack = super.decrStackSize(index, count);
+        }
+        finally
+        {
+            this.changingSlot = false;
+        }
+        this.updateIndex(index);
+        return stack;
+    }
+
+    @Override
+    public ItemStack removeStackFromSlot(int index)
+    {
+        ItemStack stack = super.removeStackFromSlot(index);
+        this.updateIndex(index);
+        return stack;
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        this.indexDirty = true;
+    }
+
+    /**
+     * Containers change stacks in place and then mark the inventory as dirty without saying which
+     * slot changed, so the whole index is rebuilt before the next insert.
+     */
+    @Override
+    public void markDirty()
+    {
+        super.markDirty();
+        if(!this.changingSlot)
+        {
+            this.indexDirty = true;
+        }
+    }
+
+    /**
+     * Slots are updated in the index as they are set, decreased or removed, and inserts keep it up
+     * to date themselves, so it only has to be rebuilt after a change the inventory can't follow.
+     * A stack changed in place without marking the inventory as dirty may still be missed until
+     * the next rebuild. The slots found through the index are always checked before they are used.
+     */
+    private void rebuildIndexIfDirty()
+    {
+        if(this.indexDirty)
+        {
+            this.indexDirty = false;
+            for(int i = 0; i < this.getSizeInventory(); i++)
             {
-                return i;
+                this.updateIndex(i);
             }
         }
-        return -1;
     }
 
-    private int storePartialItemStack(ItemStack itemStackIn)
+    private void updateIndex(int slot)
     {
-        int i = this.storeItemStack(itemStackIn);
-        if(i == -1)
+        SlotKey oldKey = this.slotKeys[slot];
+        if(oldKey != null)
+        {
+            BitSet slots = this.mergeableSlots.get(oldKey);
+            if(slots != null)
+            {
+                slots.clear(slot);
+                if(slots.isEmpty())
+                {
+                    this.mergeableSlots.remove(oldKey);
+                }
+            }
+            this.slotKeys[slot] = null;
+        }
+
+        ItemStack stack = this.getStackInSlot(slot);
+        this.freeSlots.set(slot, stack.isEmpty());
+        if(this.isMergeable(stack))
         {
-            i = this.getFirstEmptyStack();
+            SlotKey key = new SlotKey(stack);
+            this.slotKeys[slot] = key;
+            this.mergeableSlots.computeIfAbsent(key, k -> new BitSet()).set(slot);
         }
-        return i == -1 ? itemStackIn.getCount() : this.addResource(i, itemStackIn);
     }
 
-    private int storeItemStack(ItemStack itemStackIn)
+    private boolean isMergeable(ItemStack stack)
     {
-        for(int i = 0; i < this.getSizeInventory(); i++)
+        return !stack.isEmpty() && stack.isStackable() && stack.getCount() < stack.getMaxStackSize() && stack.getCount() < this.getInventoryStackLimit();
+    }
+
+    /* Slots with the same key are compared in full, as different tags can share a hash. Slots that
+     * fail are updated in case their stack was changed in place. */
+    private int findMergeableSlot(ItemStack stack)
+    {
+        BitSet slots = this.mergeableSlots.get(new SlotKey(stack));
+        if(slots != null)
         {
-            if(this.canMergeStacks(this.getStackInSlot(i), itemStackIn))
+            for(int i = slots.nextSetBit(0); i >= 0; i = slots.nextSetBit(i + 1))
             {
-                return i;
+                if(this.canMergeStacks(this.getStackInSlot(i), stack))
+                {
+                    return i;
+                }
+                this.updateIndex(i);
             }
         }
         return -1;
     }
 
+    private int findFreeSlot()
+    {
+        int slot = this.freeSlots.nextSetBit(0);
+        while(slot >= 0 && !this.getStackInSlot(slot).isEmpty())
+        {
+            this.updateIndex(slot);
+            slot = this.freeSlots.nextSetBit(slot + 1);
+        }
+        return slot;
+    }
+
     private boolean canMergeStacks(ItemStack stack1, ItemStack stack2)
     {
-        return !stack1.isEmpty() && this.stackEqualExact(stack1, stack2) && stack1.isStackable() && stack1.getCount() < stack1.getMaxStackSize() && stack1.getCount() < this.getInventoryStackLimit();
+        return this.isMergeable(stack1) && this.stackEqualExact(stack1, stack2);
     }
 
     private boolean stackEqualExact(ItemStack stack1, ItemStack stack2)
@@ -193,6 +396,24 @@ public class StorageInventory extends InventoryBasic
         return tagCompound;
     }
 
+    /**
+     * Writes only the given slots, including empty ones so they are cleared when read.
+     */
+    public NBTTagCompound writeChangesToNBT(int[] slots)
+    {
+        NBTTagCompound tagCompound = new NBTTagCompound();
+        NBTTagList tagList = new NBTTagList();
+        for(int slot : slots)
+        {
+            NBTTagCompound slotTag = new NBTTagCompound();
+            slotTag.setByte("Slot", (byte) slot);
+            this.getStackInSlot(slot).writeToNBT(slotTag);
+            tagList.appendTag(slotTag);
+        }
+        tagCompound.setTag("changes", tagList);
+        return tagCompound;
+    }
+
     public void readFromNBT(NBTTagCompound tagCompound)
     {
         if(tagCompound.hasKey("inventory", Constants.NBT.TAG_LIST))
@@ -209,6 +430,19 @@ public class StorageInventory extends InventoryBasic
                 }
             }
         }
+        else if(tagCompound.hasKey("changes", Constants.NBT.TAG_LIST))
+        {
+            NBTTagList tagList = tagCompound.getTagList("changes", Constants.NBT.TAG_COMPOUND);
+            for(int i = 0; i < tagList.tagCount(); i++)
+            {
+                NBTTagCompound slotTag = tagList.getCompoundTagAt(i);
+                byte slot = slotTag.getByte("Slot");
+                if(slot >= 0 && slot < this.getSizeInventory())
+                {
+                    this.setInventorySlotContents(slot, new ItemStack(slotTag));
+                }
+            }
+        }
     }
 
     @Override
@@ -263,4 +497,38 @@ public class StorageInventory extends InventoryBasic
             }
         }
     }
+
+    /**
+     * Groups slots by the item, metadata and tag of their stack. Stacks with the same key might
+     * still not be mergeable, so candidates are always compared in full.
+     */
+    private static class SlotKey
+    {
+        private final Item item;
+        private final int meta;
+        private final int tagHash;
+
+        private SlotKey(ItemStack stack)
+        {
+            this.item = stack.getItem();
+            this.meta = stack.getHasSubtypes() ? stack.getMetadata() : 0;
+            this.tagHash = stack.getTagCompound() != null ? stack.getTagCompound().hashCode() : 0;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if(!(obj instanceof SlotKey)) return false;
+            SlotKey other = (SlotKey) obj;
+            return this.item == other.item && this.meta == other.meta && this.tagHash == other.tagHash;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = System.identityHashCode(this.item);
+            result = 31 * result + this.meta;
+            return 31 * result + this.tagHash;
+        }
+    }
 }
@@ -1,12 +1,12 @@
 package com.mrcrayfish.vehicle.crafting;
 
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.mrcrayfish.vehicle.init.ModFluids;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
 
 import javax.annotation.Nullable;
-import java.util.Map;
 
 /**
  * Author: MrCrayfish
@@ -21,6 +21,7 @@ public class FluidExtractorRecipes
     }
 
     private final ImmutableMap<ItemStack, FluidExtract> extractingMap;
+    private final ImmutableListMultimap<RecipeItemKey, ItemStack> index;
 
     private FluidExtractorRecipes()
     {
@@ -28,6 +29,10 @@ public class FluidExtractorRecipes
         builder.put(new ItemStack(Items.ENDER_PEARL), new FluidExtract(ModFluids.ENDER_SAP, 600));
         builder.put(new ItemStack(Items.BLAZE_ROD), new FluidExtract(ModFluids.BLAZE_JUICE, 450));
         extractingMap = builder.build();
+
+        ImmutableListMultimap.Builder<RecipeItemKey, ItemStack> indexBuilder = ImmutableListMultimap.builder();
+        extractingMap.keySet().forEach(stack -> indexBuilder.put(new RecipeItemKey(stack), stack));
+        index = indexBuilder.build();
     }
 
     public ImmutableMap<ItemStack, FluidExtract> getExtractingMap()
@@ -38,11 +43,11 @@ public class FluidExtractorRecipes
     @Nullable
     public FluidExtract getRecipeResult(ItemStack stack)
     {
-        for(Map.Entry<ItemStack, FluidExtract> entry : extractingMap.entrySet())
+        for(ItemStack source : index.get(new RecipeItemKey(stack)))
         {
-            if(areItemStacksEqual(stack, entry.getKey()))
+            if(areItemStacksEqual(stack, source))
             {
-                return entry.getValue();
+                return extractingMap.get(source);
             }
         }
         return null;
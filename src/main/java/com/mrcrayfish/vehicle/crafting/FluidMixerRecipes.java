@@ -1,5 +1,7 @@
 package com.mrcrayfish.vehicle.crafting;
 
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.mrcrayfish.vehicle.init.ModFluids;
 import net.minecraft.init.Items;
@@ -8,7 +10,6 @@ import net.minecraftforge.fluids.Fluid;
 
 import javax.annotation.Nullable;
 import java.util.HashMap;
-import java.util.Optional;
 
 /**
  * Author: MrCrayfish
@@ -23,28 +24,68 @@ public class FluidMixerRecipes
     }
 
     private final HashMap<FluidMixerRecipe, FluidExtract> mixingMap = Maps.newHashMap();
+    private Index index;
 
     private FluidMixerRecipes()
     {
         mixingMap.put(new FluidMixerRecipe(ModFluids.BLAZE_JUICE, 200, ModFluids.ENDER_SAP, 200, new ItemStack(Items.GLOWSTONE_DUST)), new FluidExtract(ModFluids.FUELIUM, 400));
     }
 
+    /**
+     * Gets the map of all mixing recipes. Recipes should be added to it before post initialization,
+     * as that is when the lookup index is built.
+     */
     public HashMap<FluidMixerRecipe, FluidExtract> getMixingMap()
     {
         return mixingMap;
     }
 
+    /**
+     * Builds the lookup index from the current mixing map. Called during post initialization, after
+     * other mods have had a chance to add their recipes.
+     */
+    public void buildIndex()
+    {
+        index = new Index(mixingMap);
+    }
+
+    private Index getIndex()
+    {
+        if(index == null)
+        {
+            buildIndex();
+        }
+        return index;
+    }
+
     @Nullable
     public FluidMixerRecipe getRecipe(Fluid fluidOne, Fluid fluidTwo, ItemStack ingredient)
     {
-        int hashCode = fluidOne.hashCode() + fluidTwo.hashCode() + ingredient.getItem().hashCode() + ingredient.getItemDamage();
-        Optional<FluidMixerRecipe> optional = mixingMap.keySet().stream().filter(fluidMixerRecipe -> fluidMixerRecipe.hashCode() == hashCode).findFirst();
-        return optional.orElse(null);
+        for(FluidMixerRecipe recipe : getIndex().recipes.get(new Key(fluidOne, fluidTwo, ingredient)))
+        {
+            if(FluidMixerRecipe.areItemStacksEqual(recipe.getIngredient(), ingredient))
+            {
+                return recipe;
+            }
+        }
+        return null;
     }
 
     public boolean isIngredient(ItemStack ingredient)
     {
-        return mixingMap.keySet().stream().anyMatch(recipe -> FluidMixerRecipe.areItemStacksEqual(recipe.getIngredient(), ingredient));
+        for(ItemStack stack : getIndex().ingredients.get(new RecipeItemKey(ingredient)))
+        {
+            if(FluidMixerRecipe.areItemStacksEqual(stack, ingredient))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isFluidIngredient(Fluid fluid)
+    {
+        return getIndex().fluids.contains(fluid);
     }
 
     @Nullable
@@ -52,4 +93,68 @@ public class FluidMixerRecipes
     {
         return mixingMap.get(recipe);
     }
+
+    /**
+     * An immutable snapshot of the mixing map. Recipes are stored under both orders of their fluids
+     * so lookups don't depend on which tank holds which fluid.
+     */
+    private static class Index
+    {
+        private final ImmutableListMultimap<Key, FluidMixerRecipe> recipes;
+        private final ImmutableListMultimap<RecipeItemKey, ItemStack> ingredients;
+        private final ImmutableSet<Fluid> fluids;
+
+        private Index(HashMap<FluidMixerRecipe, FluidExtract> mixingMap)
+        {
+            ImmutableListMultimap.Builder<Key, FluidMixerRecipe> recipes = ImmutableListMultimap.builder();
+            ImmutableListMultimap.Builder<RecipeItemKey, ItemStack> ingredients = ImmutableListMultimap.builder();
+            ImmutableSet.Builder<Fluid> fluids = ImmutableSet.builder();
+            for(FluidMixerRecipe recipe : mixingMap.keySet())
+            {
+                Fluid fluidOne = recipe.getFluids()[0];
+                Fluid fluidTwo = recipe.getFluids()[1];
+                ItemStack ingredient = recipe.getIngredient();
+                recipes.put(new Key(fluidOne, fluidTwo, ingredient), recipe);
+                if(fluidOne != fluidTwo)
+                {
+                    recipes.put(new Key(fluidTwo, fluidOne, ingredient), recipe);
+                }
+                ingredients.put(new RecipeItemKey(ingredient), ingredient);
+                fluids.add(fluidOne, fluidTwo);
+            }
+            this.recipes = recipes.build();
+            this.ingredients = ingredients.build();
+            this.fluids = fluids.build();
+        }
+    }
+
+    private static class Key
+    {
+        private final Fluid fluidOne;
+        private final Fluid fluidTwo;
+        private final RecipeItemKey ingredient;
+
+        private Key(Fluid fluidOne, Fluid fluidTwo, ItemStack ingredient)
+        {
+            this.fluidOne = fluidOne;
+            this.fluidTwo = fluidTwo;
+            this.ingredient = new RecipeItemKey(ingredient);
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if(!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return fluidOne == other.fluidOne && fluidTwo == other.fluidTwo && ingredient.equals(other.ingredient);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = System.identityHashCode(fluidOne);
+            result = 31 * result + System.identityHashCode(fluidTwo);
+            return 31 * result + ingredient.hashCode();
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.mrcrayfish.vehicle.crafting;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ * An item and metadata pair used to index recipes. NBT is not part of the key, so recipes found
+ * through it still need to compare the full stack.
+ *
+ * Author: MrCrayfish
+ */
+class RecipeItemKey
+{
+    private final Item item;
+    private final int meta;
+
+    RecipeItemKey(ItemStack stack)
+    {
+        this.item = stack.getItem();
+        this.meta = stack.getItemDamage();
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if(!(obj instanceof RecipeItemKey)) return false;
+        RecipeItemKey other = (RecipeItemKey) obj;
+        return item == other.item && meta == other.meta;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * System.identityHashCode(item) + meta;
+    }
+}
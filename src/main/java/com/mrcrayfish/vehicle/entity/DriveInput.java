@@ -0,0 +1,64 @@
+package com.mrcrayfish.vehicle.entity;
+
+/**
+ * Everything the speed of a powered vehicle depends on in one tick, besides the vehicle's own
+ * properties such as its engine and max speed. See {@link EntityPoweredVehicle#getNextSpeed(float, DriveInput)}.
+ *
+ * Author: MrCrayfish
+ */
+public class DriveInput
+{
+    private final boolean driven;
+    private final boolean canDrive;
+    private final EntityPoweredVehicle.AccelerationDirection acceleration;
+    private final boolean charging;
+    private final float power;
+    private final float wheelModifier;
+    private final boolean wheelsOnGround;
+
+    public DriveInput(boolean driven, boolean canDrive, EntityPoweredVehicle.AccelerationDirection acceleration, boolean charging, float power, float wheelModifier, boolean wheelsOnGround)
+    {
+        this.driven = driven;
+        this.canDrive = canDrive;
+        this.acceleration = acceleration;
+        this.charging = charging;
+        this.power = power;
+        this.wheelModifier = wheelModifier;
+        this.wheelsOnGround = wheelsOnGround;
+    }
+
+    public boolean isDriven()
+    {
+        return driven;
+    }
+
+    public boolean canDrive()
+    {
+        return canDrive;
+    }
+
+    public EntityPoweredVehicle.AccelerationDirection getAcceleration()
+    {
+        return acceleration;
+    }
+
+    public boolean isCharging()
+    {
+        return charging;
+    }
+
+    public float getPower()
+    {
+        return power;
+    }
+
+    public float getWheelModifier()
+    {
+        return wheelModifier;
+    }
+
+    public boolean isWheelsOnGround()
+    {
+        return wheelsOnGround;
+    }
+}
@@ -1,10 +1,6 @@
 package com.mrcrayfish.vehicle.entity;
 
 import com.mrcrayfish.vehicle.VehicleMod;
-import com.mrcrayfish.vehicle.network.PacketHandler;
-import com.mrcrayfish.vehicle.network.message.MessageAltitude;
-import com.mrcrayfish.vehicle.network.message.MessageTravelProperties;
-import net.minecraft.client.Minecraft;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.network.datasync.DataParameter;
@@ -13,6 +9,8 @@ import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 
 /**
  * Author: MrCrayfish
@@ -208,23 +206,6 @@ public abstract class EntityHelicopter extends EntityPoweredVehicle
         prevBodyRotationY = bodyRotationY;
         prevBodyRotationZ = bodyRotationZ;
 
-        EntityLivingBase entity = (EntityLivingBase) this.getControllingPassenger();
-        if(entity != null && entity.equals(Minecraft.getMinecraft().player))
-        {
-            AltitudeChange altitudeChange = VehicleMod.proxy.getAltitudeChange();
-            if(this.getAltitudeChange() != altitudeChange)
-            {
-                this.setAltitudeChange(altitudeChange);
-                PacketHandler.INSTANCE.sendToServer(new MessageAltitude(altitudeChange));
-            }
-
-            float travelDirection = VehicleMod.proxy.getTravelDirection(this);
-            float travelSpeed = VehicleMod.proxy.getTravelSpeed(this);
-            this.setTravelDirection(travelDirection);
-            this.setTravelSpeed(travelSpeed);
-            PacketHandler.INSTANCE.sendToServer(new MessageTravelProperties(travelSpeed, travelDirection));
-        }
-
         if(this.isFlying())
         {
             bodyRotationX = (dirX * 20F * 35F) * this.getActualSpeed();
@@ -237,6 +218,16 @@ public abstract class EntityHelicopter extends EntityPoweredVehicle
         }
     }
 
+    @Override
+    @SideOnly(Side.CLIENT)
+    protected void updateClientInput(EntityLivingBase entity)
+    {
+        super.updateClientInput(entity);
+        this.setAltitudeChange(VehicleMod.proxy.getAltitudeChange());
+        this.setTravelDirection(VehicleMod.proxy.getTravelDirection(this));
+        this.setTravelSpeed(VehicleMod.proxy.getTravelSpeed(this));
+    }
+
     @Override
     public void addPassenger(Entity passenger)
     {
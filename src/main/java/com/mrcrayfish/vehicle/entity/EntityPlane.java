@@ -1,9 +1,6 @@
 package com.mrcrayfish.vehicle.entity;
 
 import com.mrcrayfish.vehicle.VehicleMod;
-import com.mrcrayfish.vehicle.network.PacketHandler;
-import com.mrcrayfish.vehicle.network.message.MessageFlaps;
-import net.minecraft.client.Minecraft;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.datasync.DataParameter;
@@ -12,6 +9,8 @@ import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 
 /**
  * Author: MrCrayfish
@@ -71,17 +70,6 @@ public abstract class EntityPlane extends EntityPoweredVehicle
         this.prevBodyRotationY = this.bodyRotationY;
         this.prevBodyRotationZ = this.bodyRotationZ;
 
-        EntityLivingBase entity = (EntityLivingBase) this.getControllingPassenger();
-        if(entity != null && entity.equals(Minecraft.getMinecraft().player))
-        {
-            FlapDirection flapDirection = VehicleMod.proxy.getFlapDirection();
-            if(this.getFlapDirection() != flapDirection)
-            {
-                this.setFlapDirection(flapDirection);
-                PacketHandler.INSTANCE.sendToServer(new MessageFlaps(flapDirection));
-            }
-        }
-
         if(this.isFlying())
         {
             this.bodyRotationX = (float) Math.toDegrees(Math.atan2(motionY, currentSpeed / 20F));
@@ -94,6 +82,14 @@ public abstract class EntityPlane extends EntityPoweredVehicle
         }
     }
 
+    @Override
+    @SideOnly(Side.CLIENT)
+    protected void updateClientInput(EntityLivingBase entity)
+    {
+        super.updateClientInput(entity);
+        this.setFlapDirection(VehicleMod.proxy.getFlapDirection());
+    }
+
     @Override
     protected void updateSpeed()
     {
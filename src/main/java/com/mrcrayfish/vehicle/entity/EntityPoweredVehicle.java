@@ -6,6 +6,7 @@ import com.mrcrayfish.vehicle.block.BlockVehicleCrate;
 import com.mrcrayfish.vehicle.client.SpecialModels;
 import com.mrcrayfish.vehicle.client.render.Wheel;
 import com.mrcrayfish.vehicle.common.Seat;
+import com.mrcrayfish.vehicle.common.VehicleCollisionHandler;
 import com.mrcrayfish.vehicle.common.container.ContainerVehicle;
 import com.mrcrayfish.vehicle.common.entity.PartPosition;
 import com.mrcrayfish.vehicle.common.entity.SyncedPlayerData;
@@ -15,11 +16,8 @@ import com.mrcrayfish.vehicle.init.ModSounds;
 import com.mrcrayfish.vehicle.item.ItemEngine;
 import com.mrcrayfish.vehicle.item.ItemJerryCan;
 import com.mrcrayfish.vehicle.network.PacketHandler;
-import com.mrcrayfish.vehicle.network.message.MessageAccelerating;
-import com.mrcrayfish.vehicle.network.message.MessageHorn;
-import com.mrcrayfish.vehicle.network.message.MessagePower;
-import com.mrcrayfish.vehicle.network.message.MessageTurnAngle;
-import com.mrcrayfish.vehicle.network.message.MessageTurnDirection;
+import com.mrcrayfish.vehicle.network.message.MessageVehicleInput;
+import com.mrcrayfish.vehicle.network.message.MessageVehicleState;
 import com.mrcrayfish.vehicle.network.message.MessageVehicleWindow;
 import com.mrcrayfish.vehicle.tileentity.TileEntityGasPump;
 import com.mrcrayfish.vehicle.tileentity.TileEntityGasPumpTank;
@@ -94,6 +92,15 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
     protected static final DataParameter<Integer> WHEEL_TYPE = EntityDataManager.createKey(EntityPoweredVehicle.class, DataSerializers.VARINT);
     public  static final DataParameter<Integer> WHEEL_COLOR = EntityDataManager.createKey(EntityPoweredVehicle.class, DataSerializers.VARINT);
 
+    /* Flags stored per wheel in the wheel contact buffer */
+    private static final byte CONTACT_SOLID = 1;
+    private static final byte CONTACT_SURFACE = 2;
+    private static final byte CONTACT_SNOW = 4;
+    private static final byte CONTACT_SOFT = 8;
+
+    /* Ticks between full input messages, even if the driver's input hasn't changed */
+    private static final int INPUT_KEEP_ALIVE = 20;
+
     public float prevCurrentSpeed;
     public float currentSpeed;
     public float speedMultiplier;
@@ -107,6 +114,8 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
     protected AccelerationDirection prevAcceleration;
 
     protected double[] wheelPositions;
+    protected byte[] wheelContacts;
+    protected IBlockState[] wheelContactStates;
     protected boolean wheelsOnGround = true;
     public float turnAngle;
     public float prevTurnAngle;
@@ -125,6 +134,20 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
     public int wheelieCount;
     @SideOnly(Side.CLIENT)
     public int prevWheelieCount;
+    @SideOnly(Side.CLIENT)
+    private MessageVehicleInput lastInput;
+    @SideOnly(Side.CLIENT)
+    private int inputSequence;
+    @SideOnly(Side.CLIENT)
+    private int inputKeepAliveTimer;
+    @SideOnly(Side.CLIENT)
+    private VehiclePrediction prediction;
+
+    private int lastInputSequence;
+    private int lastAcknowledgedSequence = -1;
+    private DriveInput driveInput;
+    private float startSpeed;
+    private float stepSpeed;
 
     public float vehicleMotionX;
     public float vehicleMotionY;
@@ -159,6 +182,15 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
         }
     }
 
+    /**
+     * Determines if this vehicle needs to look for entities to collide with this tick. Parked
+     * vehicles, vehicles without a rider and disabled collisions skip the check entirely.
+     */
+    public boolean shouldCheckCollisions()
+    {
+        return VehicleConfig.SERVER.collision_system.collisionSystemEnabled && this.isMoving == 1 && this.isBeingRidden();
+    }
+
     private void applyVehicleCollision(Entity entity)
     {
         boolean doColision = false;
@@ -238,6 +270,8 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
         if(wheels != null && wheels.size() > 0)
         {
             this.wheelPositions = new double[wheels.size() * 3];
+            this.wheelContacts = new byte[wheels.size()];
+            this.wheelContactStates = new IBlockState[wheels.size()];
         }
     }
 
@@ -407,6 +441,9 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
 
         Entity controllingPassenger = this.getControllingPassenger();
 
+        /* Samples the blocks under the wheels once for particles, ground state and wheel modifier */
+        this.updateWheelContacts();
+
         /* If there driver, create particles */
         if(controllingPassenger != null)
         {
@@ -420,6 +457,7 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
         }
 
         /* Handle the current speed of the vehicle based on rider's forward movement */
+        this.driveInput = null;
         this.updateGroundState();
         this.updateSpeed();
         this.updateTurning();
@@ -496,14 +534,10 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
         /* Checks for block collisions */
         this.doBlockCollisions();
 
-        /* Checks for collisions with any other vehicles */
-        List<Entity> list = this.world.getEntitiesInAABBexcluding(this, this.getEntityBoundingBox(), entity -> !((entity instanceof EntityItem)|(entity instanceof EntityTrailer)));
-        if (!list.isEmpty())
+        /* Queues collisions with other entities to be resolved at the end of the tick */
+        if(this.shouldCheckCollisions())
         {
-            for(Entity entity : list)
-            {
-                this.applyEntityCollision(entity);
-            }
+            VehicleCollisionHandler.queue(this);
         }
 
         if(this.requiresFuel() && controllingPassenger instanceof EntityPlayer && !((EntityPlayer) controllingPassenger).isCreative() && this.isEnginePowered())
@@ -516,6 +550,18 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
             this.setCurrentFuel(currentFuel);
         }
 
+        /* Both sides sample the speed here, after block collisions such as boost pads have changed it */
+        if(world.isRemote)
+        {
+            this.recordPrediction();
+        }
+        else if(controllingPassenger instanceof EntityPlayerMP && this.lastInputSequence != this.lastAcknowledgedSequence)
+        {
+            /* Acknowledges the driver's latest input with the speed simulated from it */
+            this.lastAcknowledgedSequence = this.lastInputSequence;
+            PacketHandler.INSTANCE.sendTo(new MessageVehicleState(this.getEntityId(), this.lastInputSequence, this.currentSpeed), (EntityPlayerMP) controllingPassenger);
+        }
+
         this.prevAcceleration = this.getAcceleration();
     }
 
@@ -527,10 +573,8 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
 
     protected void updateSpeed()
     {
-        float wheelModifier = this.getWheelModifier();
         this.currentSpeed = this.getSpeed();
 
-        EngineTier engineTier = this.getEngineTier();
         AccelerationDirection acceleration = this.getAcceleration();
 
         /* Reset charging to false if acceleration is not charging */
@@ -539,74 +583,97 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
             this.charging = false;
         }
 
-        if(this.getControllingPassenger() != null)
+        boolean driven = this.getControllingPassenger() != null;
+        boolean canDrive = driven && this.canDrive();
+        if(canDrive && this.canCharge() && acceleration == AccelerationDirection.CHARGING && Math.abs(this.currentSpeed) < 0.5F)
         {
-            if(this.canDrive())
+            this.charging = true;
+        }
+
+        this.driveInput = new DriveInput(driven, canDrive, acceleration, this.charging, this.getPower(), this.getWheelModifier(), this.wheelsOnGround);
+        this.startSpeed = this.currentSpeed;
+        this.currentSpeed = this.getNextSpeed(this.currentSpeed, this.driveInput);
+        this.stepSpeed = this.currentSpeed;
+    }
+
+    /**
+     * Steps the speed of the vehicle by one tick. The result only depends on the given speed and
+     * input, which lets the driver's client replay past ticks when the server corrects it.
+     *
+     * @param speed the speed at the start of the tick
+     * @param input the input of the tick
+     * @return the speed at the end of the tick
+     */
+    public float getNextSpeed(float speed, DriveInput input)
+    {
+        float wheelModifier = input.getWheelModifier();
+        EngineTier engineTier = this.getEngineTier();
+        AccelerationDirection acceleration = input.getAcceleration();
+
+        if(input.isDriven())
+        {
+            if(input.canDrive())
             {
-                boolean charging = this.canCharge() && acceleration == AccelerationDirection.CHARGING && Math.abs(this.currentSpeed) < 0.5F;
-                if(acceleration == AccelerationDirection.FORWARD || (charging || this.charging))
+                if(acceleration == AccelerationDirection.FORWARD || input.isCharging())
                 {
-                    if(!this.charging)
-                    {
-                        this.charging = charging;
-                    }
-                    if(this.wheelsOnGround || this.canAccelerateInAir())
+                    if(input.isWheelsOnGround() || this.canAccelerateInAir())
                     {
-                        float maxSpeed = this.getActualMaxSpeed() * wheelModifier * this.getPower();
-                        if(this.currentSpeed < maxSpeed)
+                        float maxSpeed = this.getActualMaxSpeed() * wheelModifier * input.getPower();
+                        if(speed < maxSpeed)
                         {
-                            this.currentSpeed += this.getModifiedAccelerationSpeed() * engineTier.getAccelerationMultiplier();
-                            if(this.currentSpeed > maxSpeed)
+                            speed += this.getModifiedAccelerationSpeed() * engineTier.getAccelerationMultiplier();
+                            if(speed > maxSpeed)
                             {
-                                this.currentSpeed = maxSpeed;
+                                speed = maxSpeed;
                             }
                         }
-                        if(this.currentSpeed > maxSpeed)
+                        if(speed > maxSpeed)
                         {
-                            this.currentSpeed *= 0.975F;
+                            speed *= 0.975F;
                         }
-                        return;
+                        return speed;
                     }
                 }
                 else if(acceleration == AccelerationDirection.REVERSE)
                 {
-                    if(this.wheelsOnGround || this.canAccelerateInAir())
+                    if(input.isWheelsOnGround() || this.canAccelerateInAir())
                     {
-                        float maxSpeed = -(4.0F + engineTier.getAdditionalMaxSpeed() / 2) * wheelModifier * this.getPower();;
-                        if(this.currentSpeed > maxSpeed)
+                        float maxSpeed = -(4.0F + engineTier.getAdditionalMaxSpeed() / 2) * wheelModifier * input.getPower();
+                        if(speed > maxSpeed)
                         {
-                            this.currentSpeed -= this.getModifiedAccelerationSpeed() * engineTier.getAccelerationMultiplier();
-                            if(this.currentSpeed < maxSpeed)
+                            speed -= this.getModifiedAccelerationSpeed() * engineTier.getAccelerationMultiplier();
+                            if(speed < maxSpeed)
                             {
-                                this.currentSpeed = maxSpeed;
+                                speed = maxSpeed;
                             }
                         }
-                        if(this.currentSpeed < maxSpeed)
+                        if(speed < maxSpeed)
                         {
-                            this.currentSpeed *= 0.975F;
+                            speed *= 0.975F;
                         }
-                        return;
+                        return speed;
                     }
                 }
             }
 
-            if(this.wheelsOnGround || this.canAccelerateInAir())
+            if(input.isWheelsOnGround() || this.canAccelerateInAir())
             {
-                this.currentSpeed *= 0.9;
+                speed *= 0.9;
             }
             else
             {
-                this.currentSpeed *= 0.98;
+                speed *= 0.98;
             }
         }
-        else if(this.wheelsOnGround)
+        else if(input.isWheelsOnGround())
         {
-            this.currentSpeed *= 0.85;
+            speed *= 0.85;
         }
         else
         {
-            this.currentSpeed *= 0.98;
+            speed *= 0.98;
         }
+        return speed;
     }
 
     protected void updateTurning()
@@ -637,16 +704,17 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
                     if(!wheel.shouldSpawnParticles())
                         continue;
                     /* Gets the block under the wheel and spawns a particle */
-                    double wheelX = this.wheelPositions[i * 3];
-                    double wheelY = this.wheelPositions[i * 3 + 1];
-                    double wheelZ = this.wheelPositions[i * 3 + 2];
-                    int x = MathHelper.floor(this.posX + wheelX);
-                    int y = MathHelper.floor(this.posY + wheelY - 0.2D);
-                    int z = MathHelper.floor(this.posZ + wheelZ);
-                    BlockPos pos = new BlockPos(x, y, z);
-                    IBlockState state = this.world.getBlockState(pos);
-                    if(state.getMaterial() != Material.AIR && state.getMaterial().isToolNotRequired())
+                    int contact = this.wheelContacts[i];
+                    if((contact & CONTACT_SURFACE) != 0 && (contact & CONTACT_SOFT) != 0)
                     {
+                        double wheelX = this.wheelPositions[i * 3];
+                        double wheelY = this.wheelPositions[i * 3 + 1];
+                        double wheelZ = this.wheelPositions[i * 3 + 2];
+                        int x = MathHelper.floor(this.posX + wheelX);
+                        int y = MathHelper.floor(this.posY + wheelY - 0.2D);
+                        int z = MathHelper.floor(this.posZ + wheelZ);
+                        BlockPos pos = new BlockPos(x, y, z);
+                        IBlockState state = this.wheelContactStates[i];
                         Vec3d dirVec = this.getVectorForRotation(this.rotationPitch, this.getModifiedRotationYaw() + 180F).addVector(0, 0.5, 0);
                         if(this.charging)
                         {
@@ -678,34 +746,17 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
         EntityLivingBase entity = (EntityLivingBase) this.getControllingPassenger();
         if(entity != null && entity.equals(Minecraft.getMinecraft().player))
         {
-            float power = VehicleMod.proxy.getPower(this);
-            if(power != this.getPower())
+            if(this.prediction == null)
             {
-                this.setPower(power);
-                PacketHandler.INSTANCE.sendToServer(new MessagePower(power));
+                this.prediction = new VehiclePrediction();
             }
-
-            AccelerationDirection acceleration = VehicleMod.proxy.getAccelerationDirection(entity);
-            if(this.getAcceleration() != acceleration)
-            {
-                this.setAcceleration(acceleration);
-                PacketHandler.INSTANCE.sendToServer(new MessageAccelerating(acceleration));
-            }
-
-            boolean horn = VehicleMod.proxy.isHonking();
-            this.setHorn(horn);
-            PacketHandler.INSTANCE.sendToServer(new MessageHorn(horn));
-
-            TurnDirection direction = VehicleMod.proxy.getTurnDirection(entity);
-            if(this.getTurnDirection() != direction)
-            {
-                this.setTurnDirection(direction);
-                PacketHandler.INSTANCE.sendToServer(new MessageTurnDirection(direction));
-            }
-
-            float targetTurnAngle = VehicleMod.proxy.getTargetTurnAngle(this, false);
-            this.setTargetTurnAngle(targetTurnAngle);
-            PacketHandler.INSTANCE.sendToServer(new MessageTurnAngle(targetTurnAngle));
+            this.updateClientInput(entity);
+            this.sendClientInput();
+        }
+        else
+        {
+            this.lastInput = null;
+            this.prediction = null;
         }
 
         if(this.isBoosting() && this.getControllingPassenger() != null)
@@ -721,6 +772,78 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
         }
     }
 
+    /**
+     * Reads the driver's input into the vehicle. Subclasses with extra controls should call super
+     * and then read their own input.
+     */
+    @SideOnly(Side.CLIENT)
+    protected void updateClientInput(EntityLivingBase entity)
+    {
+        this.setPower(VehicleMod.proxy.getPower(this));
+        this.setAcceleration(VehicleMod.proxy.getAccelerationDirection(entity));
+        this.setHorn(VehicleMod.proxy.isHonking());
+        this.setTurnDirection(VehicleMod.proxy.getTurnDirection(entity));
+        this.setTargetTurnAngle(VehicleMod.proxy.getTargetTurnAngle(this, false));
+    }
+
+    /**
+     * Sends the driver's input to the server, but only if it changed since the last message or if
+     * the keep alive is due.
+     */
+    @SideOnly(Side.CLIENT)
+    private void sendClientInput()
+    {
+        MessageVehicleInput input = new MessageVehicleInput(this);
+        input.apply(this);
+
+        int changes = input.getChanges(this.lastInput);
+        this.inputKeepAliveTimer++;
+        if(changes != 0 || this.inputKeepAliveTimer >= INPUT_KEEP_ALIVE)
+        {
+            this.inputSequence = (this.inputSequence + 1) & 0xFFFF;
+            input.prepare(this.inputSequence, changes != 0 ? changes : input.getFields());
+            PacketHandler.INSTANCE.sendToServer(input);
+            this.lastInput = input;
+            this.inputKeepAliveTimer = 0;
+        }
+    }
+
+    /**
+     * Records the speed predicted this tick, if the speed was stepped with {@link #getNextSpeed(float, DriveInput)}.
+     * Vehicles that step their speed differently aren't reconciled.
+     */
+    @SideOnly(Side.CLIENT)
+    private void recordPrediction()
+    {
+        if(this.prediction != null && this.driveInput != null)
+        {
+            this.prediction.record(this.inputSequence, this.driveInput, this.startSpeed, this.stepSpeed, this.currentSpeed);
+        }
+    }
+
+    /**
+     * Corrects the predicted speed with the speed the server had after the first tick of the given
+     * input. Only the client of the driver predicts the vehicle.
+     */
+    @SideOnly(Side.CLIENT)
+    public void reconcile(int sequence, float speed)
+    {
+        if(this.prediction != null)
+        {
+            this.currentSpeed += this.prediction.reconcile(this::getNextSpeed, sequence, speed);
+        }
+    }
+
+    public void setLastInputSequence(int sequence)
+    {
+        this.lastInputSequence = sequence;
+    }
+
+    public int getLastInputSequence()
+    {
+        return this.lastInputSequence;
+    }
+
     @Override
     protected void readEntityFromNBT(NBTTagCompound compound)
     {
@@ -1447,16 +1570,20 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
         }
     }
 
-    public float getWheelModifier()
+    /**
+     * Resolves the block under each wheel and stores the result in the wheel contact buffer. This
+     * is only done once per tick so the ground state, wheel modifier and particles don't each have
+     * to look up the same blocks again.
+     */
+    protected void updateWheelContacts()
     {
-        float wheelModifier = 0F;
-        VehicleProperties properties = this.getProperties();
-        List<Wheel> wheels = properties.getWheels();
-        if(this.hasWheels() && wheels != null)
+        if(this.wheelContacts == null)
+            return;
+
+        BlockPos.PooledMutableBlockPos mutableBlockPos = BlockPos.PooledMutableBlockPos.retain();
+        try
         {
-            int wheelCount = 0;
-            WheelType type = this.getWheelType();
-            for(int i = 0; i < wheels.size(); i++)
+            for(int i = 0; i < this.wheelContacts.length; i++)
             {
                 double wheelX = this.wheelPositions[i * 3];
                 double wheelY = this.wheelPositions[i * 3 + 1];
@@ -1464,15 +1591,54 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
                 int x = MathHelper.floor(this.posX + wheelX);
                 int y = MathHelper.floor(this.posY + wheelY - 0.2D);
                 int z = MathHelper.floor(this.posZ + wheelZ);
-                BlockPos pos = new BlockPos(x, y, z);
-                IBlockState state = this.world.getBlockState(pos);
-                if(state.getMaterial() != Material.AIR)
+                mutableBlockPos.setPos(x, y, z);
+                IBlockState state = this.world.getBlockState(mutableBlockPos);
+                Material material = state.getMaterial();
+
+                byte contact = 0;
+                if(state.getCollisionBoundingBox(world, mutableBlockPos) != Block.NULL_AABB)
+                {
+                    contact |= CONTACT_SOLID;
+                }
+                if(material != Material.AIR)
+                {
+                    contact |= CONTACT_SURFACE;
+                    if(material == Material.SNOW || material == Material.CRAFTED_SNOW || (state.getBlock() == Blocks.GRASS && state.getValue(BlockGrass.SNOWY)))
+                    {
+                        contact |= CONTACT_SNOW;
+                    }
+                    if(material.isToolNotRequired())
+                    {
+                        contact |= CONTACT_SOFT;
+                    }
+                }
+                this.wheelContacts[i] = contact;
+                this.wheelContactStates[i] = state;
+            }
+        }
+        finally
+        {
+            mutableBlockPos.release();
+        }
+    }
+
+    public float getWheelModifier()
+    {
+        float wheelModifier = 0F;
+        if(this.hasWheels() && this.wheelContacts != null)
+        {
+            int wheelCount = 0;
+            WheelType type = this.getWheelType();
+            for(int i = 0; i < this.wheelContacts.length; i++)
+            {
+                int contact = this.wheelContacts[i];
+                if((contact & CONTACT_SURFACE) != 0)
                 {
-                    if(state.getMaterial() == Material.SNOW || state.getMaterial() == Material.CRAFTED_SNOW || (state.getBlock() == Blocks.GRASS && state.getValue(BlockGrass.SNOWY)))
+                    if((contact & CONTACT_SNOW) != 0)
                     {
                         wheelModifier += (1.0F - type.snowMultiplier);
                     }
-                    else if(!state.getMaterial().isToolNotRequired())
+                    else if((contact & CONTACT_SOFT) == 0)
                     {
                         wheelModifier += (1.0F - type.roadMultiplier);
                     }
@@ -1495,21 +1661,11 @@ public abstract class EntityPoweredVehicle extends EntityVehicle implements IInv
     {
         if(this.hasWheels())
         {
-            VehicleProperties properties = this.getProperties();
-            List<Wheel> wheels = properties.getWheels();
-            if(this.hasWheels() && wheels != null)
+            if(this.wheelContacts != null)
             {
-                for(int i = 0; i < wheels.size(); i++)
+                for(int i = 0; i < this.wheelContacts.length; i++)
                 {
-                    double wheelX = this.wheelPositions[i * 3];
-                    double wheelY = this.wheelPositions[i * 3 + 1];
-                    double wheelZ = this.wheelPositions[i * 3 + 2];
-                    int x = MathHelper.floor(this.posX + wheelX);
-                    int y = MathHelper.floor(this.posY + wheelY - 0.2D);
-                    int z = MathHelper.floor(this.posZ + wheelZ);
-                    BlockPos pos = new BlockPos(x, y, z);
-                    IBlockState state = this.world.getBlockState(pos);
-                    if(state.getCollisionBoundingBox(world, pos) != Block.NULL_AABB)
+                    if((this.wheelContacts[i] & CONTACT_SOLID) != 0)
                     {
                         wheelsOnGround = true;
                         return;
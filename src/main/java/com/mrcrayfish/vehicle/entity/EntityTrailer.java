@@ -1,13 +1,11 @@
 package com.mrcrayfish.vehicle.entity;
 
 import com.mrcrayfish.vehicle.VehicleConfig;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.MoverType;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.network.datasync.DataParameter;
-import net.minecraft.network.datasync.DataSerializers;
-import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
@@ -21,9 +19,8 @@ import javax.annotation.Nullable;
  */
 public abstract class EntityTrailer extends EntityVehicle
 {
-    public static final DataParameter<Integer> PULLING_ENTITY = EntityDataManager.createKey(EntityTrailer.class, DataSerializers.VARINT);
-
     private Entity pullingEntity;
+    private int pullingEntityId = -1;
 
     public float wheelRotation;
     public float prevWheelRotation;
@@ -35,13 +32,6 @@ public abstract class EntityTrailer extends EntityVehicle
         this.stepHeight = 1.0F;
     }
 
-    @Override
-    protected void entityInit()
-    {
-        super.entityInit();
-        this.dataManager.register(PULLING_ENTITY, -1);
-    }
-
     @Override
     public boolean canBeCollidedWith()
     {
@@ -57,18 +47,10 @@ public abstract class EntityTrailer extends EntityVehicle
 
         if(this.world.isRemote)
         {
-            int entityId = this.dataManager.get(PULLING_ENTITY);
-            if(entityId != -1)
+            Entity entity = this.getLinkedEntity(this.pullingEntityId, this.pullingEntity);
+            if(entity instanceof EntityPlayer || (entity instanceof EntityVehicle && ((EntityVehicle) entity).canTowTrailer()))
             {
-                Entity entity = world.getEntityByID(this.dataManager.get(PULLING_ENTITY));
-                if(entity instanceof EntityPlayer || (entity instanceof EntityVehicle && ((EntityVehicle) entity).canTowTrailer()))
-                {
-                    this.pullingEntity = entity;
-                }
-                else if(this.pullingEntity != null)
-                {
-                    this.pullingEntity = null;
-                }
+                this.pullingEntity = entity;
             }
             else if(this.pullingEntity != null)
             {
@@ -81,7 +63,7 @@ public abstract class EntityTrailer extends EntityVehicle
             if(this.pullingEntity.getDistance(this) > VehicleConfig.SERVER.trailerDetachThreshold)
             {
                 world.playSound(null, pullingEntity.getPosition(), SoundEvents.ENTITY_ITEM_BREAK, SoundCategory.PLAYERS, 1.0F, 1.0F);
-                this.pullingEntity = null;
+                this.setPullingEntity(null);
                 return;
             }
         }
@@ -165,23 +147,46 @@ public abstract class EntityTrailer extends EntityVehicle
         if(pullingEntity instanceof EntityPlayer || (pullingEntity instanceof EntityVehicle && pullingEntity.getRidingEntity() == null && ((EntityVehicle) pullingEntity).canTowTrailer()))
         {
             this.pullingEntity = pullingEntity;
-            this.dataManager.set(PULLING_ENTITY, pullingEntity.getEntityId());
+            this.syncTrailerLink();
             return true;
         }
         else
         {
             this.pullingEntity = null;
-            this.dataManager.set(PULLING_ENTITY, -1);
+            this.syncTrailerLink();
             return false;
         }
     }
 
+    /**
+     * Sets the id of the pulling entity synced from the server. The entity itself is looked up on
+     * the next update.
+     */
+    public void setPullingEntityId(int pullingEntityId)
+    {
+        this.pullingEntityId = pullingEntityId;
+    }
+
     @Nullable
     public Entity getPullingEntity()
     {
         return pullingEntity;
     }
 
+    @Override
+    public void writeSpawnData(ByteBuf buffer)
+    {
+        super.writeSpawnData(buffer);
+        buffer.writeInt(this.pullingEntity != null ? this.pullingEntity.getEntityId() : -1);
+    }
+
+    @Override
+    public void readSpawnData(ByteBuf buffer)
+    {
+        super.readSpawnData(buffer);
+        this.pullingEntityId = buffer.readInt();
+    }
+
     @Override
     @SideOnly(Side.CLIENT)
     public void setPositionAndRotationDirect(double x, double y, double z, float yaw, float pitch, int posRotationIncrements, boolean teleport)
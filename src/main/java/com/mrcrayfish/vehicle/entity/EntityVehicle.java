@@ -11,6 +11,8 @@ import com.mrcrayfish.vehicle.crafting.VehicleRecipes;
 import com.mrcrayfish.vehicle.init.ModItems;
 import com.mrcrayfish.vehicle.init.ModSounds;
 import com.mrcrayfish.vehicle.item.ItemSprayCan;
+import com.mrcrayfish.vehicle.network.PacketHandler;
+import com.mrcrayfish.vehicle.network.message.MessageSyncTrailerLink;
 import com.mrcrayfish.vehicle.util.InventoryUtil;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
@@ -50,11 +52,10 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
     private static final DataParameter<Integer> TIME_SINCE_HIT = EntityDataManager.createKey(EntityVehicle.class, DataSerializers.VARINT);
     private static final DataParameter<Float> MAX_HEALTH = EntityDataManager.createKey(EntityVehicle.class, DataSerializers.FLOAT);
     private static final DataParameter<Float> HEALTH = EntityDataManager.createKey(EntityVehicle.class, DataSerializers.FLOAT);
-    private static final DataParameter<Integer> TRAILER = EntityDataManager.createKey(EntityVehicle.class, DataSerializers.VARINT);
 
     protected UUID trailerId;
     protected EntityTrailer trailer = null;
-    private int searchDelay = 0;
+    private int trailerEntityId = -1;
 
     protected int lerpSteps;
     protected double lerpX;
@@ -78,7 +79,6 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
         this.dataManager.register(MAX_HEALTH, 100F);
         this.dataManager.register(HEALTH, 100F);
         this.dataManager.register(COLOR, 16383998);
-        this.dataManager.register(TRAILER, -1);
 
         if(this.world.isRemote)
         {
@@ -262,46 +262,18 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
         prevPosY = posY;
         prevPosZ = posZ;
 
-        if(!world.isRemote)
+        if(!world.isRemote && this.trailer == null)
         {
-            if(this.searchDelay <= 0)
-            {
-                if(trailer != null)
-                {
-                    /* Updates periodically to ensure the client knows the vehicle/trailer connection.
-                     * There is often problems on loading worlds that it doesn't sync correctly, so this
-                     * is the fix. */
-                    this.dataManager.setDirty(TRAILER);
-                    this.trailer.getDataManager().setDirty(EntityTrailer.PULLING_ENTITY);
-                    this.searchDelay = VehicleConfig.SERVER.trailerSyncCooldown;
-                }
-                else
-                {
-                    this.findTrailer();
-                }
-            }
-            else
-            {
-                this.searchDelay--;
-            }
+            this.findTrailer();
         }
 
         if(this.world.isRemote)
         {
-            int entityId = this.dataManager.get(TRAILER);
-            if(entityId != -1)
+            Entity entity = this.getLinkedEntity(this.trailerEntityId, this.trailer);
+            if(entity instanceof EntityTrailer)
             {
-                Entity entity = world.getEntityByID(this.dataManager.get(TRAILER));
-                if(entity instanceof EntityTrailer)
-                {
-                    this.trailer = (EntityTrailer) entity;
-                    this.trailerId = trailer.getUniqueID();
-                }
-                else if(this.trailer != null)
-                {
-                    this.trailer = null;
-                    this.trailerId = null;
-                }
+                this.trailer = (EntityTrailer) entity;
+                this.trailerId = trailer.getUniqueID();
             }
             else if(this.trailer != null)
             {
@@ -320,6 +292,28 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
         this.onUpdateVehicle();
     }
 
+    /**
+     * Gets an entity this vehicle is linked to on the client. The entity that was found last time
+     * is reused until it's removed from the world or the id changes, so the world is only searched
+     * when the link changes or while the entity hasn't been spawned on the client yet.
+     *
+     * @param entityId the id of the linked entity, or -1 if there is no link
+     * @param cached   the entity that was found last time
+     */
+    @Nullable
+    protected Entity getLinkedEntity(int entityId, @Nullable Entity cached)
+    {
+        if(entityId == -1)
+        {
+            return null;
+        }
+        if(cached != null && !cached.isDead && cached.getEntityId() == entityId)
+        {
+            return cached;
+        }
+        return this.world.getEntityByID(entityId);
+    }
+
     private void findTrailer()
     {
         if(!world.isRemote && trailerId != null && trailer == null)
@@ -623,6 +617,7 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
     {
         buffer.writeFloat(this.rotationYaw);
         this.seatTracker.write(buffer);
+        buffer.writeInt(this.trailer != null ? this.trailer.getEntityId() : -1);
     }
 
     @Override
@@ -630,6 +625,7 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
     {
         this.rotationYaw = this.prevRotationYaw = buffer.readFloat();
         this.seatTracker.read(buffer);
+        this.trailerEntityId = buffer.readInt();
     }
 
     public boolean canTowTrailer()
@@ -644,7 +640,6 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
             this.trailer = trailer;
             this.trailerId = trailer.getUniqueID();
             trailer.setPullingEntity(this);
-            this.dataManager.set(TRAILER, trailer.getEntityId());
         }
         else
         {
@@ -654,8 +649,29 @@ public abstract class EntityVehicle extends Entity implements IEntityAdditionalS
             }
             this.trailer = null;
             this.trailerId = null;
-            this.dataManager.set(TRAILER, -1);
         }
+        this.syncTrailerLink();
+    }
+
+    /**
+     * Sends the trailer link to everyone tracking this vehicle. Players that start tracking it
+     * later get the link with the spawn data instead.
+     */
+    protected void syncTrailerLink()
+    {
+        if(!this.world.isRemote)
+        {
+            PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncTrailerLink(this), this);
+        }
+    }
+
+    /**
+     * Sets the id of the trailer synced from the server. The trailer itself is looked up on the
+     * next update.
+     */
+    public void setTrailerEntityId(int trailerEntityId)
+    {
+        this.trailerEntityId = trailerEntityId;
     }
 
     @Nullable
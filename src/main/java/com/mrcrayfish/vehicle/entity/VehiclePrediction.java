@@ -0,0 +1,124 @@
+package com.mrcrayfish.vehicle.entity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Keeps the speed the driver's client predicted for each of the last ticks, along with the input
+ * of the tick. When the server acknowledges an input, its speed is compared to the prediction for
+ * the first tick that used it. If they differ, the ticks after it are replayed with the difference.
+ *
+ * Author: MrCrayfish
+ */
+public class VehiclePrediction
+{
+    /* A few seconds of ticks, more than enough to cover the round trip to the server */
+    private static final int MAX_TICKS = 100;
+    private static final float TOLERANCE = 0.01F;
+
+    private final Deque<Tick> ticks = new ArrayDeque<>();
+
+    /**
+     * Records a predicted tick.
+     *
+     * @param sequence   the sequence of the last input sent to the server
+     * @param input      the input the speed was stepped with
+     * @param startSpeed the speed before the step
+     * @param stepSpeed  the speed after {@link EntityPoweredVehicle#getNextSpeed(float, DriveInput)}
+     * @param endSpeed   the speed at the end of the tick, after drifting and block collisions
+     */
+    public void record(int sequence, DriveInput input, float startSpeed, float stepSpeed, float endSpeed)
+    {
+        if(this.ticks.size() >= MAX_TICKS)
+        {
+            this.ticks.removeFirst();
+        }
+        this.ticks.addLast(new Tick(sequence, input, startSpeed, stepSpeed, endSpeed));
+    }
+
+    /**
+     * Reconciles the prediction with the speed the server had at the end of the first tick that
+     * used the acknowledged input. Each tick after it is stepped again from its own recorded start
+     * speed plus the difference carried over from the tick before. Changes made outside of the
+     * step, such as boosts and collisions, are kept as they were predicted.
+     *
+     * @param stepper     steps the speed, normally {@link EntityPoweredVehicle#getNextSpeed(float, DriveInput)}
+     * @param sequence    the acknowledged input sequence
+     * @param serverSpeed the speed of the vehicle on the server
+     * @return the amount to add to the current speed, zero if the prediction was correct
+     */
+    public float reconcile(Stepper stepper, int sequence, float serverSpeed)
+    {
+        Tick acknowledged = null;
+        for(Tick tick : this.ticks)
+        {
+            if(tick.sequence == sequence)
+            {
+                acknowledged = tick;
+                break;
+            }
+        }
+        if(acknowledged == null)
+        {
+            return 0F;
+        }
+
+        /* Ticks before the acknowledged input can't be corrected anymore */
+        while(this.ticks.peekFirst() != acknowledged)
+        {
+            this.ticks.removeFirst();
+        }
+
+        float delta = serverSpeed - acknowledged.endSpeed;
+        if(Math.abs(delta) <= TOLERANCE)
+        {
+            return 0F;
+        }
+        acknowledged.endSpeed = serverSpeed;
+
+        Iterator<Tick> it = this.ticks.iterator();
+        it.next();
+        while(it.hasNext())
+        {
+            Tick tick = it.next();
+            tick.startSpeed += delta;
+            float stepSpeed = stepper.getNextSpeed(tick.startSpeed, tick.input);
+            delta = stepSpeed - tick.stepSpeed;
+            tick.stepSpeed = stepSpeed;
+            tick.endSpeed += delta;
+        }
+        return delta;
+    }
+
+    /**
+     * Gets the number of ticks that are kept for reconciling
+     */
+    public int size()
+    {
+        return this.ticks.size();
+    }
+
+    public interface Stepper
+    {
+        float getNextSpeed(float speed, DriveInput input);
+    }
+
+    private static class Tick
+    {
+        private final int sequence;
+        private final DriveInput input;
+        private float startSpeed;
+        private float stepSpeed;
+        private float endSpeed;
+
+        private Tick(int sequence, DriveInput input, float startSpeed, float stepSpeed, float endSpeed)
+        {
+            this.sequence = sequence;
+            this.input = input;
+            this.startSpeed = startSpeed;
+            this.stepSpeed = stepSpeed;
+            this.endSpeed = endSpeed;
+        }
+    }
+}
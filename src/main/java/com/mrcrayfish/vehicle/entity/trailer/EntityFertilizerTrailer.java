@@ -102,7 +102,21 @@ public class EntityFertilizerTrailer extends EntityTrailer implements EntityRayt
         if(!world.isRemote && VehicleConfig.SERVER.trailerInventorySyncCooldown > 0 && inventoryTimer++ == VehicleConfig.SERVER.trailerInventorySyncCooldown)
         {
             inventoryTimer = 0;
-            PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncInventory(this.getEntityId(), inventory), this);
+            int[] changedSlots = inventory.pollChangedSlots();
+            if(changedSlots != null)
+            {
+                PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncInventory(this.getEntityId(), inventory, changedSlots), this);
+            }
+        }
+    }
+
+    @Override
+    public void addTrackingPlayer(EntityPlayerMP player)
+    {
+        super.addTrackingPlayer(player);
+        if(VehicleConfig.SERVER.trailerInventorySyncCooldown > 0)
+        {
+            PacketHandler.INSTANCE.sendTo(new MessageSyncInventory(this.getEntityId(), inventory), player);
         }
     }
 
@@ -209,6 +223,7 @@ public class EntityFertilizerTrailer extends EntityTrailer implements EntityRayt
         {
             this.initInventory();
             InventoryUtil.readInventoryToNBT(compound, "inventory", inventory);
+            inventory.markSynced();
         }
     }
 
@@ -98,7 +98,21 @@ public class EntitySeederTrailer extends EntityTrailer implements EntityRaytrace
         if(!world.isRemote && VehicleConfig.SERVER.trailerInventorySyncCooldown > 0 && inventoryTimer++ == VehicleConfig.SERVER.trailerInventorySyncCooldown)
         {
             inventoryTimer = 0;
-            PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncInventory(this.getEntityId(), inventory), this);
+            int[] changedSlots = inventory.pollChangedSlots();
+            if(changedSlots != null)
+            {
+                PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncInventory(this.getEntityId(), inventory, changedSlots), this);
+            }
+        }
+    }
+
+    @Override
+    public void addTrackingPlayer(EntityPlayerMP player)
+    {
+        super.addTrackingPlayer(player);
+        if(VehicleConfig.SERVER.trailerInventorySyncCooldown > 0)
+        {
+            PacketHandler.INSTANCE.sendTo(new MessageSyncInventory(this.getEntityId(), inventory), player);
         }
     }
 
@@ -178,6 +192,7 @@ public class EntitySeederTrailer extends EntityTrailer implements EntityRaytrace
         {
             this.initInventory();
             InventoryUtil.readInventoryToNBT(compound, "inventory", inventory);
+            inventory.markSynced();
         }
     }
 
@@ -34,6 +34,12 @@ public class EntityBumperCar extends EntityLandVehicle implements IEntityRaytrac
         }
     }
 
+    @Override
+    public boolean shouldCheckCollisions()
+    {
+        return this.isBeingRidden();
+    }
+
     private void applyBumperCollision(EntityBumperCar entity)
     {
         entity.motionX += vehicleMotionX * 2;
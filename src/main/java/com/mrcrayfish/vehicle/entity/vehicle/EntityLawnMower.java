@@ -10,6 +10,7 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockBush;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.item.EntityItem;
+import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.SoundCategory;
@@ -19,13 +20,24 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import com.mrcrayfish.vehicle.VehicleConfig;
 
+import java.util.List;
+
 /**
  * Author: MrCrayfish
  */
 public class EntityLawnMower extends EntityLandVehicle implements IEntityRaytraceable
 {
+    /* How often the whole area is scanned again, so bushes that grow back under a parked mower are cut */
+    private static final int FULL_SCAN_INTERVAL = 20;
+
+    private int lastMinX, lastMaxX, lastMinZ, lastMaxZ;
+    private int lastY = Integer.MIN_VALUE;
+    private int fullScanTimer;
+
     public EntityLawnMower(World worldIn)
     {
         super(worldIn);
@@ -47,61 +59,109 @@ public class EntityLawnMower extends EntityLandVehicle implements IEntityRaytrac
             int maxX = MathHelper.ceil(axisAligned.maxX + lookVec.x);
             int minZ = MathHelper.floor(axisAligned.minZ + lookVec.z);
             int maxZ = MathHelper.ceil(axisAligned.maxZ + lookVec.z);
+            int y = MathHelper.floor(axisAligned.minY + 0.5);
 
-            for(int x = minX; x < maxX; x++)
+            // Only the strip that wasn't covered last tick needs to be scanned
+            boolean fullScan = y != lastY || fullScanTimer-- <= 0;
+            if(fullScan)
             {
-                for(int z = minZ; z < maxZ; z++)
-                {
-                    BlockPos pos = new BlockPos(x, axisAligned.minY + 0.5, z);
-                    IBlockState state = world.getBlockState(pos);
-
-                    EntityStorageTrailer trailer = null;
-                    if(getTrailer() instanceof EntityStorageTrailer)
-                    {
-                        trailer = (EntityStorageTrailer) getTrailer();
-                    }
+                fullScanTimer = FULL_SCAN_INTERVAL;
+            }
 
-                    if(state.getBlock() instanceof BlockBush)
+            NonNullList<ItemStack> drops = NonNullList.create();
+            BlockPos effectPos = null;
+            IBlockState effectState = null;
+            if(y >= 0 && y < world.getHeight())
+            {
+                for(int x = minX; x < maxX; x++)
+                {
+                    for(int z = minZ; z < maxZ; z++)
                     {
-                        NonNullList<ItemStack> drops = NonNullList.create();
-                        state.getBlock().getDrops(drops, world, pos, state, 1);
+                        if(!fullScan && x >= lastMinX && x < lastMaxX && z >= lastMinZ && z < lastMaxZ)
+                            continue;
 
-                        for(ItemStack stack : drops)
+                        IBlockState state = this.getLoadedBlockState(x, y, z);
+                        if(state.getBlock() instanceof BlockBush)
                         {
-                            this.addItemToStorage(trailer, stack);
+                            BlockPos pos = new BlockPos(x, y, z);
+                            state.getBlock().getDrops(drops, world, pos, state, 1);
+                            world.setBlockToAir(pos);
+                            if(effectPos == null)
+                            {
+                                effectPos = pos;
+                                effectState = state;
+                            }
                         }
-
-                        world.setBlockToAir(pos);
-                        world.playSound(null, pos, state.getBlock().getSoundType(state, world, pos, this).getBreakSound(), SoundCategory.BLOCKS, 1.0F, 1.0F);
-                        world.playEvent(2001, pos, Block.getStateId(state));
                     }
                 }
             }
+
+            lastMinX = minX;
+            lastMaxX = maxX;
+            lastMinZ = minZ;
+            lastMaxZ = maxZ;
+            lastY = y;
+
+            // One sound and particle event per tick is enough since the cut blocks are next to each other
+            if(effectPos != null)
+            {
+                world.playSound(null, effectPos, effectState.getBlock().getSoundType(effectState, world, effectPos, this).getBreakSound(), SoundCategory.BLOCKS, 1.0F, 1.0F);
+                world.playEvent(2001, effectPos, Block.getStateId(effectState));
+            }
+
+            if(!drops.isEmpty())
+            {
+                EntityStorageTrailer trailer = null;
+                if(getTrailer() instanceof EntityStorageTrailer)
+                {
+                    trailer = (EntityStorageTrailer) getTrailer();
+                }
+                this.addItemsToStorage(trailer, drops);
+            }
+        }
+        else
+        {
+            // Start with a full scan the next time someone drives it
+            lastY = Integer.MIN_VALUE;
         }
     }
 
-    private void addItemToStorage(EntityStorageTrailer storageTrailer, ItemStack stack)
+    /**
+     * Reads a block state straight from the chunk section, treating unloaded chunks and empty
+     * sections as air. Avoids creating a block position for every block that is scanned.
+     */
+    private IBlockState getLoadedBlockState(int x, int y, int z)
     {
-        if(stack.isEmpty())
-            return;
+        Chunk chunk = world.getChunkProvider().getLoadedChunk(x >> 4, z >> 4);
+        if(chunk != null)
+        {
+            ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+            if(storage != Chunk.NULL_BLOCK_STORAGE)
+            {
+                return storage.get(x & 15, y & 15, z & 15);
+            }
+        }
+        return Blocks.AIR.getDefaultState();
+    }
 
-        if(storageTrailer != null && storageTrailer.getInventory() != null)
+    /**
+     * Adds the whole harvest to the given storage trailer in one pass. Anything that doesn't fit is
+     * passed on to the next storage trailer in the chain or dropped if there are none left.
+     */
+    private void addItemsToStorage(EntityStorageTrailer storageTrailer, List<ItemStack> stacks)
+    {
+        EntityStorageTrailer trailer = storageTrailer;
+        while(trailer != null && trailer.getInventory() != null)
         {
-            StorageInventory storage = storageTrailer.getInventory();
-            storage.addItemStack(stack);
-            if(!stack.isEmpty())
+            StorageInventory storage = trailer.getInventory();
+            if(storage.addItemStacks(stacks))
             {
-                if(storageTrailer.getTrailer() instanceof EntityStorageTrailer)
-                {
-                    this.addItemToStorage((EntityStorageTrailer) storageTrailer.getTrailer(), stack);
-                }
-                else
-                {
-                    spawnItemStack(world, stack);
-                }
+                return;
             }
+            trailer = trailer.getTrailer() instanceof EntityStorageTrailer ? (EntityStorageTrailer) trailer.getTrailer() : null;
         }
-        else
+
+        for(ItemStack stack : stacks)
         {
             spawnItemStack(world, stack);
         }
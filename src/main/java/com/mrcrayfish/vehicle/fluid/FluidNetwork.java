@@ -0,0 +1,162 @@
+package com.mrcrayfish.vehicle.fluid;
+
+import com.mrcrayfish.vehicle.tileentity.TileEntityFluidPipe;
+import com.mrcrayfish.vehicle.tileentity.TileEntityFluidPump;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A group of connected pipes and pumps that is updated as a whole. Members are ordered from
+ * upstream to downstream, so fluid can travel the entire length of the network in a single tick
+ * while each pipe and pump still only transfers its configured amount.
+ *
+ * Author: MrCrayfish
+ */
+public class FluidNetwork
+{
+    /* How often a sleeping network checks if its pumps or endpoints have changed */
+    private static final int SLEEP_INTERVAL = 20;
+
+    private final List<TileEntityFluidPipe> members;
+    private boolean sleeping;
+    private int sleepTimer;
+
+    FluidNetwork(Collection<TileEntityFluidPipe> members)
+    {
+        for(TileEntityFluidPipe member : members)
+        {
+            member.setNetwork(this);
+            member.refreshConnections();
+        }
+        this.members = sort(members);
+    }
+
+    List<TileEntityFluidPipe> getMembers()
+    {
+        return this.members;
+    }
+
+    void tick()
+    {
+        if(this.sleeping)
+        {
+            if(this.sleepTimer <= 0 || --this.sleepTimer > 0)
+            {
+                return;
+            }
+        }
+
+        int transferred = 0;
+        for(TileEntityFluidPipe member : this.members)
+        {
+            transferred += member.transferFluid();
+        }
+
+        if(transferred == 0)
+        {
+            this.sleeping = true;
+            this.sleepTimer = this.hasPendingWork() ? SLEEP_INTERVAL : 0;
+        }
+        else
+        {
+            this.sleeping = false;
+        }
+    }
+
+    /**
+     * Wakes the network up so it is updated again next tick. Called when the contents of one of
+     * its members change or a pump changes its power mode.
+     */
+    public void wake()
+    {
+        this.sleeping = false;
+    }
+
+    public boolean isSleeping()
+    {
+        return this.sleeping;
+    }
+
+    /**
+     * A network with fluid in it or a pump could start moving fluid again without any of its
+     * members being notified, for instance if an endpoint is drained. These networks keep checking
+     * at a slow rate, everything else sleeps until it is woken up.
+     */
+    private boolean hasPendingWork()
+    {
+        for(TileEntityFluidPipe member : this.members)
+        {
+            if(member instanceof TileEntityFluidPump || member.getFluidTank().getFluidAmount() > 0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<TileEntityFluidPipe> sort(Collection<TileEntityFluidPipe> members)
+    {
+        Map<BlockPos, TileEntityFluidPipe> positions = new HashMap<>();
+        for(TileEntityFluidPipe member : members)
+        {
+            positions.put(member.getPos(), member);
+        }
+
+        /* A depth first post order puts every member after the members downstream of it */
+        List<TileEntityFluidPipe> order = new ArrayList<>(members.size());
+        Set<TileEntityFluidPipe> visited = new HashSet<>();
+        for(TileEntityFluidPipe member : members)
+        {
+            visit(member, positions, visited, order);
+        }
+        Collections.reverse(order);
+        return order;
+    }
+
+    /* Iterative so long pipelines can't overflow the stack */
+    private static void visit(TileEntityFluidPipe start, Map<BlockPos, TileEntityFluidPipe> positions, Set<TileEntityFluidPipe> visited, List<TileEntityFluidPipe> order)
+    {
+        if(!visited.add(start))
+            return;
+
+        Deque<TileEntityFluidPipe> stack = new ArrayDeque<>();
+        Deque<Integer> progress = new ArrayDeque<>();
+        stack.push(start);
+        progress.push(0);
+        while(!stack.isEmpty())
+        {
+            TileEntityFluidPipe member = stack.peek();
+            int index = progress.pop();
+            if(index < EnumFacing.VALUES.length)
+            {
+                progress.push(index + 1);
+                EnumFacing facing = EnumFacing.VALUES[index];
+                if(member.isDownstream(facing))
+                {
+                    TileEntityFluidPipe next = positions.get(member.getPos().offset(facing));
+                    if(next != null && visited.add(next))
+                    {
+                        stack.push(next);
+                        progress.push(0);
+                    }
+                }
+            }
+            else
+            {
+                stack.pop();
+                order.add(member);
+            }
+        }
+    }
+}
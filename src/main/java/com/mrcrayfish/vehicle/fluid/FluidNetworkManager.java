@@ -0,0 +1,202 @@
+package com.mrcrayfish.vehicle.fluid;
+
+import com.mrcrayfish.vehicle.tileentity.TileEntityFluidPipe;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of the fluid networks in each world. Pipes and pumps register themselves when they
+ * load and the networks they belong to are rebuilt lazily at the end of the next world tick, so
+ * placing or breaking many pipes at once only causes a single rebuild. Managers don't hold on to
+ * their world, so the map entry goes away along with the world.
+ *
+ * Author: MrCrayfish
+ */
+public class FluidNetworkManager
+{
+    private static final Map<World, FluidNetworkManager> MANAGERS = new WeakHashMap<>();
+
+    private final Set<FluidNetwork> networks = new LinkedHashSet<>();
+    private final Set<TileEntityFluidPipe> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<BlockPos> invalidated = new HashSet<>();
+
+    public static void register()
+    {
+        MinecraftForge.EVENT_BUS.register(new EventHandler());
+    }
+
+    private static FluidNetworkManager get(World world)
+    {
+        return MANAGERS.computeIfAbsent(world, w -> new FluidNetworkManager());
+    }
+
+    /**
+     * Adds a pipe to the world's fluid networks. The pipe is joined with any adjacent networks the
+     * next time the world ticks.
+     */
+    public static void add(TileEntityFluidPipe pipe)
+    {
+        if(pipe.getWorld() != null && !pipe.getWorld().isRemote)
+        {
+            get(pipe.getWorld()).pending.add(pipe);
+        }
+    }
+
+    /**
+     * Removes a pipe from the world's fluid networks. The network it belonged to is split up and
+     * the remaining members are rebuilt into new networks.
+     */
+    public static void remove(TileEntityFluidPipe pipe)
+    {
+        if(pipe.getWorld() != null && !pipe.getWorld().isRemote)
+        {
+            FluidNetworkManager manager = get(pipe.getWorld());
+            manager.dissolve(pipe.getNetwork());
+            manager.pending.remove(pipe);
+        }
+    }
+
+    /**
+     * Marks the connections of the pipe at the given position as outdated, for instance when a
+     * neighbouring block changes. Only that pipe is refreshed on the next world tick, the network
+     * it belongs to stays as it is since pipes joining or leaving go through {@link #add} and
+     * {@link #remove}.
+     */
+    public static void invalidate(World world, BlockPos pos)
+    {
+        if(!world.isRemote)
+        {
+            get(world).invalidated.add(pos.toImmutable());
+        }
+    }
+
+    private void dissolve(FluidNetwork network)
+    {
+        if(network == null || !this.networks.remove(network))
+            return;
+
+        for(TileEntityFluidPipe member : network.getMembers())
+        {
+            member.setNetwork(null);
+            if(!member.isInvalid())
+            {
+                this.pending.add(member);
+            }
+        }
+    }
+
+    private void tick(World world)
+    {
+        if(!this.invalidated.isEmpty())
+        {
+            for(BlockPos pos : this.invalidated)
+            {
+                /* Pipes without a network are refreshed when their network is built below */
+                TileEntityFluidPipe pipe = getLoadedPipe(world, pos);
+                if(pipe != null && pipe.getNetwork() != null)
+                {
+                    pipe.refreshConnections();
+                    pipe.getNetwork().wake();
+                }
+            }
+            this.invalidated.clear();
+        }
+
+        while(!this.pending.isEmpty())
+        {
+            Iterator<TileEntityFluidPipe> it = this.pending.iterator();
+            TileEntityFluidPipe start = it.next();
+            it.remove();
+            if(start.isInvalid() || start.getWorld() != world)
+                continue;
+
+            this.networks.add(new FluidNetwork(this.collect(world, start)));
+        }
+
+        for(FluidNetwork network : this.networks)
+        {
+            network.tick();
+        }
+    }
+
+    /* Finds every loaded pipe connected to the start pipe, absorbing any networks along the way */
+    private List<TileEntityFluidPipe> collect(World world, TileEntityFluidPipe start)
+    {
+        List<TileEntityFluidPipe> members = new ArrayList<>();
+        Set<TileEntityFluidPipe> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<TileEntityFluidPipe> queue = new ArrayDeque<>();
+        visited.add(start);
+        queue.add(start);
+        while(!queue.isEmpty())
+        {
+            TileEntityFluidPipe pipe = queue.poll();
+            this.dissolve(pipe.getNetwork());
+            this.pending.remove(pipe);
+            members.add(pipe);
+
+            for(EnumFacing facing : EnumFacing.VALUES)
+            {
+                TileEntityFluidPipe adjacent = getLoadedPipe(world, pipe.getPos().offset(facing));
+                if(adjacent != null && visited.add(adjacent))
+                {
+                    queue.add(adjacent);
+                }
+            }
+        }
+        return members;
+    }
+
+    private static TileEntityFluidPipe getLoadedPipe(World world, BlockPos pos)
+    {
+        if(!world.isBlockLoaded(pos))
+            return null;
+
+        TileEntity tileEntity = world.getTileEntity(pos);
+        if(tileEntity instanceof TileEntityFluidPipe && !tileEntity.isInvalid())
+        {
+            return (TileEntityFluidPipe) tileEntity;
+        }
+        return null;
+    }
+
+    public static class EventHandler
+    {
+        @SubscribeEvent
+        public void onWorldTick(TickEvent.WorldTickEvent event)
+        {
+            if(event.phase == TickEvent.Phase.END && !event.world.isRemote)
+            {
+                FluidNetworkManager manager = MANAGERS.get(event.world);
+                if(manager != null)
+                {
+                    manager.tick(event.world);
+                }
+            }
+        }
+
+        @SubscribeEvent
+        public void onWorldUnload(WorldEvent.Unload event)
+        {
+            MANAGERS.remove(event.getWorld());
+        }
+    }
+}
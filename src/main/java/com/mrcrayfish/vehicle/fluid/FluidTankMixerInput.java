@@ -17,6 +17,6 @@ public class FluidTankMixerInput extends FluidTank
     @Override
     public boolean canFillFluidType(FluidStack fluid)
     {
-        return FluidMixerRecipes.getInstance().getMixingMap().keySet().stream().anyMatch(fluidMixerRecipe -> fluidMixerRecipe.requiresFluid(fluid.getFluid()));
+        return FluidMixerRecipes.getInstance().isFluidIngredient(fluid.getFluid());
     }
 }
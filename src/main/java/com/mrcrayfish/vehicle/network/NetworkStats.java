@@ -0,0 +1,341 @@
+package com.mrcrayfish.vehicle.network;
+
+import com.mrcrayfish.vehicle.Reference;
+import com.mrcrayfish.vehicle.VehicleConfig;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.entity.Entity;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.FMLEmbeddedChannel;
+import net.minecraftforge.fml.common.network.FMLOutboundHandler;
+import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.common.network.handshake.NetworkDispatcher;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import net.minecraftforge.fml.relauncher.Side;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the traffic of each message registered in {@link PacketHandler}. Sizes are measured from
+ * the encoded packets as they pass through the channel, and a message sent to several players is
+ * counted once for each of them. Handler time only covers the handler itself; work it schedules on
+ * the main thread is not included.
+ *
+ * Author: MrCrayfish
+ */
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID)
+public class NetworkStats
+{
+    private static final Logger LOGGER = LogManager.getLogger(Reference.MOD_ID);
+
+    private static final int RECEIVED = 0;
+    private static final int RECEIVED_BYTES = 1;
+    private static final int SENT = 2;
+    private static final int SENT_BYTES = 3;
+    private static final int DECODE_NANOS = 4;
+    private static final int HANDLER_NANOS = 5;
+    private static final int SIZE = 6;
+
+    private static final List<Class<?>> TYPES = new ArrayList<>();
+    private static final Map<Side, List<Counters>> COUNTERS = new EnumMap<>(Side.class);
+    private static final ThreadLocal<long[]> HANDLER_TIME = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static long lastLogTime = System.nanoTime();
+
+    static
+    {
+        for(Side side : Side.values())
+        {
+            COUNTERS.put(side, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Creates the handler for a message and starts counting its traffic. The message class has to
+     * handle itself, like every message registered in {@link PacketHandler}.
+     *
+     * @param discriminator the id the message is registered with
+     * @param type          the class of the message
+     */
+    @SuppressWarnings("unchecked")
+    static <REQ extends IMessage> IMessageHandler<REQ, IMessage> register(int discriminator, Class<REQ> type)
+    {
+        IMessageHandler<REQ, IMessage> handler;
+        try
+        {
+            handler = (IMessageHandler<REQ, IMessage>) type.newInstance();
+        }
+        catch(InstantiationException | IllegalAccessException e)
+        {
+            throw new RuntimeException(e);
+        }
+
+        while(TYPES.size() <= discriminator)
+        {
+            TYPES.add(null);
+            COUNTERS.values().forEach(list -> list.add(new Counters()));
+        }
+        TYPES.set(discriminator, type);
+
+        return (message, ctx) ->
+        {
+            long start = System.nanoTime();
+            try
+            {
+                return handler.onMessage(message, ctx);
+            }
+            finally
+            {
+                long time = System.nanoTime() - start;
+                HANDLER_TIME.get()[0] += time;
+                COUNTERS.get(ctx.side).get(discriminator).values.addAndGet(HANDLER_NANOS, time);
+            }
+        };
+    }
+
+    /**
+     * Adds a handler to both sides of the channel that counts the encoded packets
+     */
+    static void install(String channelName)
+    {
+        for(Side side : Side.values())
+        {
+            FMLEmbeddedChannel channel = NetworkRegistry.INSTANCE.getChannel(channelName, side);
+            if(channel != null)
+            {
+                channel.pipeline().addAfter("fml:outbound", Reference.MOD_ID + ":stats", new TrafficCounter(side));
+            }
+        }
+    }
+
+    /**
+     * Resets all counters back to zero
+     */
+    public static void reset()
+    {
+        COUNTERS.values().forEach(list -> list.forEach(Counters::reset));
+    }
+
+    /**
+     * Creates a line for every message that has been sent or received on the given side since the
+     * counters were last reset, ordered by the amount of bytes.
+     */
+    public static List<String> getSummary(Side side)
+    {
+        List<Counters> counters = COUNTERS.get(side);
+        List<String> lines = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        for(int i = 0; i < counters.size(); i++)
+        {
+            if(TYPES.get(i) != null && counters.get(i).getTotal(SENT) + counters.get(i).getTotal(RECEIVED) > 0)
+            {
+                ids.add(i);
+            }
+        }
+        ids.sort(Comparator.comparingLong(id -> -(counters.get(id).getTotal(SENT_BYTES) + counters.get(id).getTotal(RECEIVED_BYTES))));
+        ids.forEach(id -> lines.add(format(TYPES.get(id), counters.get(id).getTotals())));
+        return lines;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        int interval = VehicleConfig.SERVER.netStatsLogInterval;
+        if(event.phase != TickEvent.Phase.END || interval <= 0)
+            return;
+
+        long time = System.nanoTime();
+        if(time - lastLogTime < interval * 1000000000L)
+            return;
+        lastLogTime = time;
+
+        for(Side side : Side.values())
+        {
+            List<Counters> counters = COUNTERS.get(side);
+            for(int i = 0; i < counters.size(); i++)
+            {
+                long[] values = counters.get(i).getSinceLastLog();
+                if(TYPES.get(i) != null && values[SENT] + values[RECEIVED] > 0)
+                {
+                    LOGGER.info("[Network Stats] {} {}", side, format(TYPES.get(i), values));
+                }
+            }
+        }
+    }
+
+    private static String format(Class<?> type, long[] values)
+    {
+        double decode = values[RECEIVED] > 0 ? values[DECODE_NANOS] / (double) values[RECEIVED] / 1000000.0 : 0.0;
+        double handler = values[RECEIVED] > 0 ? values[HANDLER_NANOS] / (double) values[RECEIVED] / 1000000.0 : 0.0;
+        return String.format("%s: in %d (%.1f KB), out %d (%.1f KB), decode %.3f ms, handler %.3f ms", type.getSimpleName(), values[RECEIVED], values[RECEIVED_BYTES] / 1024.0, values[SENT], values[SENT_BYTES] / 1024.0, decode, handler);
+    }
+
+    private static class Counters
+    {
+        private final AtomicLongArray values = new AtomicLongArray(SIZE);
+        private final long[] logged = new long[SIZE];
+
+        private long getTotal(int index)
+        {
+            return this.values.get(index);
+        }
+
+        private long[] getTotals()
+        {
+            long[] totals = new long[SIZE];
+            for(int i = 0; i < SIZE; i++)
+            {
+                totals[i] = this.values.get(i);
+            }
+            return totals;
+        }
+
+        private long[] getSinceLastLog()
+        {
+            long[] totals = this.getTotals();
+            long[] delta = new long[SIZE];
+            for(int i = 0; i < SIZE; i++)
+            {
+                delta[i] = Math.max(0, totals[i] - this.logged[i]);
+                this.logged[i] = totals[i];
+            }
+            return delta;
+        }
+
+        private void reset()
+        {
+            for(int i = 0; i < SIZE; i++)
+            {
+                this.values.set(i, 0);
+                this.logged[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * Sits between the codec and the FML outbound handler, so it sees the encoded packets going in
+     * both directions before they are sent to their recipients. Decoding happens inside the read,
+     * along with the handler, so the handler time is taken off to get the decode time.
+     */
+    @ChannelHandler.Sharable
+    private static class TrafficCounter extends ChannelDuplexHandler
+    {
+        private final List<Counters> counters;
+
+        private TrafficCounter(Side side)
+        {
+            this.counters = COUNTERS.get(side);
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception
+        {
+            Counters counters = this.getCounters(msg);
+            if(counters == null)
+            {
+                super.channelRead(ctx, msg);
+                return;
+            }
+
+            int bytes = ((FMLProxyPacket) msg).payload().readableBytes();
+            long[] handlerTime = HANDLER_TIME.get();
+            handlerTime[0] = 0;
+            long start = System.nanoTime();
+            try
+            {
+                super.channelRead(ctx, msg);
+            }
+            finally
+            {
+                counters.values.incrementAndGet(RECEIVED);
+                counters.values.addAndGet(RECEIVED_BYTES, bytes);
+                counters.values.addAndGet(DECODE_NANOS, Math.max(0, System.nanoTime() - start - handlerTime[0]));
+            }
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception
+        {
+            Counters counters = this.getCounters(msg);
+            if(counters != null)
+            {
+                FMLProxyPacket packet = (FMLProxyPacket) msg;
+                int recipients = getRecipientCount(ctx, packet);
+                counters.values.addAndGet(SENT, recipients);
+                counters.values.addAndGet(SENT_BYTES, (long) recipients * packet.payload().readableBytes());
+            }
+            super.write(ctx, msg, promise);
+        }
+
+        /**
+         * The FML outbound handler after this one sends the packet to every connection its target
+         * selects. The common targets are counted from the player list and the entity tracker, so
+         * the players aren't gone through a second time for every packet. Only targets around a
+         * point still select their connections here, as they depend on each player's position.
+         */
+        private static int getRecipientCount(ChannelHandlerContext ctx, FMLProxyPacket packet)
+        {
+            FMLOutboundHandler.OutboundTarget target = ctx.channel().attr(FMLOutboundHandler.FML_MESSAGETARGET).get();
+            if(target == null)
+            {
+                return 1;
+            }
+            Object args = ctx.channel().attr(FMLOutboundHandler.FML_MESSAGETARGETARGS).get();
+            switch(target)
+            {
+                case NOWHERE:
+                    return 0;
+                case PLAYER:
+                case TOSERVER:
+                case DISPATCHER:
+                case REPLY:
+                    return 1;
+                case ALL:
+                    return FMLCommonHandler.instance().getMinecraftServerInstance().getCurrentPlayerCount();
+                case DIMENSION:
+                    WorldServer world = DimensionManager.getWorld((Integer) args);
+                    return world != null ? world.playerEntities.size() : 0;
+                case TRACKING_ENTITY:
+                    Entity entity = (Entity) args;
+                    return entity.world instanceof WorldServer ? ((WorldServer) entity.world).getEntityTracker().getTrackingPlayers(entity).size() : 0;
+                default:
+                    List<NetworkDispatcher> dispatchers = target.selectNetworks(args, ctx, packet);
+                    return dispatchers != null ? dispatchers.size() : 1;
+            }
+        }
+
+        private Counters getCounters(Object msg)
+        {
+            if(msg instanceof FMLProxyPacket)
+            {
+                FMLProxyPacket packet = (FMLProxyPacket) msg;
+                if(packet.payload().isReadable())
+                {
+                    int discriminator = packet.payload().getByte(packet.payload().readerIndex()) & 0xFF;
+                    if(discriminator < this.counters.size())
+                    {
+                        return this.counters.get(discriminator);
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
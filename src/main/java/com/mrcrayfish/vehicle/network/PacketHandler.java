@@ -19,33 +19,28 @@ public class PacketHandler
 
     public static void init()
     {
-        registerMessage(MessageTurnDirection.class, Side.SERVER);
-        registerMessage(MessageTurnAngle.class, Side.SERVER);
-        registerMessage(MessageAccelerating.class, Side.SERVER);
+        registerMessage(MessageVehicleInput.class, Side.SERVER);
         registerMessage(MessageDrift.class, Side.SERVER);
-        registerMessage(MessageHorn.class, Side.SERVER);
         registerMessage(MessageThrowVehicle.class, Side.SERVER);
         registerMessage(MessagePickupVehicle.class, Side.SERVER);
-        registerMessage(MessageFlaps.class, Side.SERVER);
         registerMessage(MessageAttachChest.class, Side.SERVER);
         registerMessage(MessageAttachTrailer.class, Side.SERVER);
         registerMessage(MessageFuelVehicle.class, Side.SERVER);
         registerMessage(MessageInteractKey.class, Side.SERVER);
-        registerMessage(MessageAltitude.class, Side.SERVER);
         registerMessage(MessageCraftVehicle.class, Side.SERVER);
         registerMessage(MessageVehicleWindow.class, Side.CLIENT);
         registerMessage(MessageHitchTrailer.class, Side.SERVER);
         registerMessage(MessageSyncInventory.class, Side.CLIENT);
         registerMessage(MessageOpenStorage.class, Side.SERVER);
         registerMessage(MessageStorageWindow.class, Side.CLIENT);
-        registerMessage(MessageTravelProperties.class, Side.SERVER);
-        registerMessage(MessagePower.class, Side.SERVER);
         registerMessage(MessageEntityFluid.class, Side.CLIENT);
-        registerMessage(MessageSyncPlayerSeat.class, Side.CLIENT);
+        registerMessage(MessageSyncSeatTracker.class, Side.CLIENT);
         registerMessage(MessageCycleSeats.class, Side.SERVER);
         registerMessage(MessageSyncHeldVehicle.class, Side.CLIENT);
-        registerMessage(MessageSyncPlayerTrailer.class, Side.CLIENT);
-        registerMessage(MessageSyncPlayerGasPumpPos.class, Side.CLIENT);
+        registerMessage(MessageSyncPlayerData.class, Side.CLIENT);
+        registerMessage(MessageSyncTrailerLink.class, Side.CLIENT);
+        registerMessage(MessageVehicleState.class, Side.CLIENT);
+        NetworkStats.install(Reference.MOD_ID);
     }
 
     private static void registerMessage(Class packet, Side side)
@@ -63,6 +58,7 @@ public class PacketHandler
 
     private static void registerMessage(Class packet, net.minecraftforge.fml.relauncher.Side side)
     {
-        INSTANCE.registerMessage(packet, packet, messageId++, side);
+        int discriminator = messageId++;
+        INSTANCE.registerMessage(NetworkStats.register(discriminator, packet), packet, discriminator, side);
     }
 }
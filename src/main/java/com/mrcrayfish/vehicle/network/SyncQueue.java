@@ -0,0 +1,179 @@
+package com.mrcrayfish.vehicle.network;
+
+import com.mrcrayfish.vehicle.Reference;
+import com.mrcrayfish.vehicle.common.entity.SyncedPlayerData;
+import com.mrcrayfish.vehicle.entity.EntityVehicle;
+import com.mrcrayfish.vehicle.network.message.MessageSyncPlayerData;
+import com.mrcrayfish.vehicle.network.message.MessageSyncSeatTracker;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Collects changes to synced player data and vehicle seats during a server tick and sends them at
+ * the end of it. However many times an entity changes in a tick, each receiver only gets a single
+ * message with its latest state.
+ *
+ * Author: MrCrayfish
+ */
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID)
+public class SyncQueue
+{
+    private static final Pending<EntityPlayer> PLAYER_DATA = new Pending<>(SyncQueue::isConnected, SyncQueue::sendPlayerData);
+    private static final Pending<EntityVehicle> SEATS = new Pending<>(vehicle -> !vehicle.isDead, SyncQueue::sendSeats);
+
+    /**
+     * Queues the synced data of a player to be sent to them and everyone tracking them.
+     */
+    public static void queuePlayerData(EntityPlayer player)
+    {
+        PLAYER_DATA.add(player);
+    }
+
+    /**
+     * Queues the seats of a vehicle to be sent to everyone tracking it.
+     */
+    public static void queueSeats(EntityVehicle vehicle)
+    {
+        SEATS.add(vehicle);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if(event.phase == TickEvent.Phase.END)
+        {
+            flush();
+        }
+    }
+
+    public static void flush()
+    {
+        PLAYER_DATA.flush();
+        SEATS.flush();
+    }
+
+    private static boolean isConnected(EntityPlayer player)
+    {
+        return player instanceof EntityPlayerMP && ((EntityPlayerMP) player).connection != null;
+    }
+
+    private static int sendPlayerData(EntityPlayer player)
+    {
+        MessageSyncPlayerData message = new MessageSyncPlayerData(player.getEntityId(), SyncedPlayerData.getTrailer(player), SyncedPlayerData.getGasPumpPos(player));
+        PacketHandler.INSTANCE.sendTo(message, (EntityPlayerMP) player);
+        PacketHandler.INSTANCE.sendToAllTracking(message, player);
+        return 1 + getTrackingCount(player);
+    }
+
+    private static int sendSeats(EntityVehicle vehicle)
+    {
+        PacketHandler.INSTANCE.sendToAllTracking(new MessageSyncSeatTracker(vehicle.getEntityId(), vehicle.getSeatTracker()), vehicle);
+        return getTrackingCount(vehicle);
+    }
+
+    private static int getTrackingCount(Entity entity)
+    {
+        if(entity.world instanceof WorldServer)
+        {
+            return ((WorldServer) entity.world).getEntityTracker().getTrackingPlayers(entity).size();
+        }
+        return 0;
+    }
+
+    /**
+     * @return the amount of updates that have been queued
+     */
+    public static long getQueuedCount()
+    {
+        return PLAYER_DATA.getQueuedCount() + SEATS.getQueuedCount();
+    }
+
+    /**
+     * @return the amount of queued updates that were merged into an update already queued that tick
+     */
+    public static long getMergedCount()
+    {
+        return PLAYER_DATA.getMergedCount() + SEATS.getMergedCount();
+    }
+
+    /**
+     * @return the amount of messages sent, counting each receiver separately
+     */
+    public static long getSentCount()
+    {
+        return PLAYER_DATA.getSentCount() + SEATS.getSentCount();
+    }
+
+    /**
+     * The entities waiting to be synced at the end of the tick, in the order they were first
+     * queued. Queuing an entity that is already waiting merges it into the queued update.
+     */
+    static class Pending<T>
+    {
+        private final Set<T> entities = new LinkedHashSet<>();
+        private final Predicate<T> canSend;
+        private final ToIntFunction<T> sender;
+        private long queuedCount;
+        private long mergedCount;
+        private long sentCount;
+
+        /**
+         * @param canSend whether the entity can still be synced when the queue is flushed
+         * @param sender  sends the entity's latest state and returns the amount of receivers
+         */
+        Pending(Predicate<T> canSend, ToIntFunction<T> sender)
+        {
+            this.canSend = canSend;
+            this.sender = sender;
+        }
+
+        void add(T entity)
+        {
+            this.queuedCount++;
+            if(!this.entities.add(entity))
+            {
+                this.mergedCount++;
+            }
+        }
+
+        /**
+         * Sends every waiting entity that can still be synced once and empties the queue
+         */
+        void flush()
+        {
+            for(T entity : this.entities)
+            {
+                if(this.canSend.test(entity))
+                {
+                    this.sentCount += this.sender.applyAsInt(entity);
+                }
+            }
+            this.entities.clear();
+        }
+
+        long getQueuedCount()
+        {
+            return this.queuedCount;
+        }
+
+        long getMergedCount()
+        {
+            return this.mergedCount;
+        }
+
+        long getSentCount()
+        {
+            return this.sentCount;
+        }
+    }
+}
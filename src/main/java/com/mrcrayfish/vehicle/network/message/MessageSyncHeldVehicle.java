@@ -1,48 +1,56 @@
 package com.mrcrayfish.vehicle.network.message;
 
 import com.mrcrayfish.vehicle.VehicleMod;
+import com.mrcrayfish.vehicle.common.entity.HeldVehicleDescriptor;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 
+import javax.annotation.Nullable;
+
 /**
  * Author: MrCrayfish
  */
 public class MessageSyncHeldVehicle implements IMessage, IMessageHandler<MessageSyncHeldVehicle, IMessage>
 {
     private int entityId;
-    private NBTTagCompound vehicleTag;
+    private HeldVehicleDescriptor descriptor;
 
     public MessageSyncHeldVehicle() {}
 
-    public MessageSyncHeldVehicle(int entityId, NBTTagCompound vehicleTag)
+    public MessageSyncHeldVehicle(int entityId, @Nullable HeldVehicleDescriptor descriptor)
     {
         this.entityId = entityId;
-        this.vehicleTag = vehicleTag;
+        this.descriptor = descriptor;
     }
 
     @Override
     public void toBytes(ByteBuf buf)
     {
         buf.writeInt(this.entityId);
-        ByteBufUtils.writeTag(buf, this.vehicleTag);
+        buf.writeBoolean(this.descriptor != null);
+        if(this.descriptor != null)
+        {
+            this.descriptor.write(buf);
+        }
     }
 
     @Override
     public void fromBytes(ByteBuf buf)
     {
         this.entityId = buf.readInt();
-        this.vehicleTag = ByteBufUtils.readTag(buf);
+        if(buf.readBoolean())
+        {
+            this.descriptor = HeldVehicleDescriptor.read(buf);
+        }
     }
 
     @Override
     public IMessage onMessage(MessageSyncHeldVehicle message, MessageContext ctx)
     {
-        Minecraft.getMinecraft().addScheduledTask(() -> VehicleMod.proxy.syncHeldVehicle(message.entityId, message.vehicleTag));
+        Minecraft.getMinecraft().addScheduledTask(() -> VehicleMod.proxy.syncHeldVehicle(message.entityId, message.descriptor));
         return null;
     }
 }
@@ -26,6 +26,12 @@ public class MessageSyncInventory implements IMessage, IMessageHandler<MessageSy
         this.tagCompound = storageInventory.writeToNBT();
     }
 
+    public MessageSyncInventory(int entityId, StorageInventory storageInventory, int[] changedSlots)
+    {
+        this.entityId = entityId;
+        this.tagCompound = storageInventory.writeChangesToNBT(changedSlots);
+    }
+
     @Override
     public void toBytes(ByteBuf buf)
     {
@@ -4,8 +4,8 @@ import com.google.common.base.Optional;
 import com.mrcrayfish.vehicle.VehicleMod;
 import com.mrcrayfish.vehicle.common.entity.SyncedPlayerData;
 import io.netty.buffer.ByteBuf;
-import net.minecraft.client.Minecraft;
 import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -22,10 +22,15 @@ public class MessageSyncPlayerData implements IMessage, IMessageHandler<MessageS
     public MessageSyncPlayerData() {}
 
     public MessageSyncPlayerData(int entityId, SyncedPlayerData.Holder holder)
+    {
+        this(entityId, holder.getTrailer(), holder.getGasPumpPos());
+    }
+
+    public MessageSyncPlayerData(int entityId, int trailer, Optional<BlockPos> gasPumpPos)
     {
         this.entityId = entityId;
-        this.trailer = holder.getTrailer();
-        this.gasPumpPos = holder.getGasPumpPos();
+        this.trailer = trailer;
+        this.gasPumpPos = gasPumpPos;
     }
 
     @Override
@@ -51,7 +56,7 @@ public class MessageSyncPlayerData implements IMessage, IMessageHandler<MessageS
     @Override
     public IMessage onMessage(MessageSyncPlayerData message, MessageContext ctx)
     {
-        Minecraft.getMinecraft().addScheduledTask(() -> VehicleMod.proxy.syncPlayerData(message.entityId, message.trailer, message.gasPumpPos));
+        FMLCommonHandler.instance().getWorldThread(ctx.netHandler).addScheduledTask(() -> VehicleMod.proxy.syncPlayerData(message.entityId, message.trailer, message.gasPumpPos));
         return null;
     }
 }
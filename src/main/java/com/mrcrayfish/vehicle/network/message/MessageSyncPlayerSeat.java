@@ -1,56 +0,0 @@
-package com.mrcrayfish.vehicle.network.message;
-
-import com.mrcrayfish.vehicle.VehicleMod;
-import io.netty.buffer.ByteBuf;
-import net.minecraftforge.fml.common.FMLCommonHandler;
-import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
-import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
-import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
-
-import java.util.UUID;
-
-/**
- * Author: MrCrayfish
- */
-public class MessageSyncPlayerSeat implements IMessage, IMessageHandler<MessageSyncPlayerSeat, IMessage>
-{
-    private int entityId;
-    private int seatIndex;
-    private UUID uuid;
-
-    public MessageSyncPlayerSeat() {}
-
-    public MessageSyncPlayerSeat(int entityId, int seatIndex, UUID uuid)
-    {
-        this.entityId = entityId;
-        this.seatIndex = seatIndex;
-        this.uuid = uuid;
-    }
-
-    @Override
-    public void toBytes(ByteBuf buf)
-    {
-        buf.writeInt(this.entityId);
-        buf.writeInt(this.seatIndex);
-        buf.writeLong(this.uuid.getMostSignificantBits());
-        buf.writeLong(this.uuid.getLeastSignificantBits());
-    }
-
-    @Override
-    public void fromBytes(ByteBuf buf)
-    {
-        this.entityId = buf.readInt();
-        this.seatIndex = buf.readInt();
-        this.uuid = new UUID(buf.readLong(), buf.readLong());
-    }
-
-    @Override
-    public IMessage onMessage(MessageSyncPlayerSeat message, MessageContext ctx)
-    {
-        FMLCommonHandler.instance().getWorldThread(ctx.netHandler).addScheduledTask(() ->
-        {
-            VehicleMod.proxy.syncPlayerSeat(message.entityId, message.seatIndex, message.uuid);
-        });
-        return null;
-    }
-}
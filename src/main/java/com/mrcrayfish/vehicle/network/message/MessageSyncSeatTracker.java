@@ -0,0 +1,68 @@
+package com.mrcrayfish.vehicle.network.message;
+
+import com.google.common.collect.ImmutableMap;
+import com.mrcrayfish.vehicle.VehicleMod;
+import com.mrcrayfish.vehicle.common.SeatTracker;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Author: MrCrayfish
+ */
+public class MessageSyncSeatTracker implements IMessage, IMessageHandler<MessageSyncSeatTracker, IMessage>
+{
+    private int entityId;
+    private Map<UUID, Integer> playerSeatMap;
+
+    public MessageSyncSeatTracker() {}
+
+    public MessageSyncSeatTracker(int entityId, SeatTracker tracker)
+    {
+        this.entityId = entityId;
+        this.playerSeatMap = tracker.getPlayerSeatMap();
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf)
+    {
+        buf.writeInt(this.entityId);
+        ByteBufUtils.writeVarInt(buf, this.playerSeatMap.size(), 3);
+        this.playerSeatMap.forEach((uuid, seatIndex) ->
+        {
+            buf.writeLong(uuid.getMostSignificantBits());
+            buf.writeLong(uuid.getLeastSignificantBits());
+            ByteBufUtils.writeVarInt(buf, seatIndex, 3);
+        });
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf)
+    {
+        this.entityId = buf.readInt();
+        ImmutableMap.Builder<UUID, Integer> builder = ImmutableMap.builder();
+        int size = ByteBufUtils.readVarInt(buf, 3);
+        for(int i = 0; i < size; i++)
+        {
+            UUID uuid = new UUID(buf.readLong(), buf.readLong());
+            builder.put(uuid, ByteBufUtils.readVarInt(buf, 3));
+        }
+        this.playerSeatMap = builder.build();
+    }
+
+    @Override
+    public IMessage onMessage(MessageSyncSeatTracker message, MessageContext ctx)
+    {
+        FMLCommonHandler.instance().getWorldThread(ctx.netHandler).addScheduledTask(() ->
+        {
+            VehicleMod.proxy.syncSeatTracker(message.entityId, message.playerSeatMap);
+        });
+        return null;
+    }
+}
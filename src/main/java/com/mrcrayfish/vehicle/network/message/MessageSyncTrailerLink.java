@@ -0,0 +1,61 @@
+package com.mrcrayfish.vehicle.network.message;
+
+import com.mrcrayfish.vehicle.VehicleMod;
+import com.mrcrayfish.vehicle.entity.EntityTrailer;
+import com.mrcrayfish.vehicle.entity.EntityVehicle;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Author: MrCrayfish
+ */
+public class MessageSyncTrailerLink implements IMessage, IMessageHandler<MessageSyncTrailerLink, IMessage>
+{
+    private int entityId;
+    private int trailerId;
+    private int pullingEntityId;
+
+    public MessageSyncTrailerLink() {}
+
+    public MessageSyncTrailerLink(EntityVehicle vehicle)
+    {
+        this.entityId = vehicle.getEntityId();
+        this.trailerId = vehicle.getTrailer() != null ? vehicle.getTrailer().getEntityId() : -1;
+        this.pullingEntityId = -1;
+        if(vehicle instanceof EntityTrailer)
+        {
+            Entity pullingEntity = ((EntityTrailer) vehicle).getPullingEntity();
+            this.pullingEntityId = pullingEntity != null ? pullingEntity.getEntityId() : -1;
+        }
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf)
+    {
+        buf.writeInt(this.entityId);
+        buf.writeInt(this.trailerId);
+        buf.writeInt(this.pullingEntityId);
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf)
+    {
+        this.entityId = buf.readInt();
+        this.trailerId = buf.readInt();
+        this.pullingEntityId = buf.readInt();
+    }
+
+    @Override
+    public IMessage onMessage(MessageSyncTrailerLink message, MessageContext ctx)
+    {
+        FMLCommonHandler.instance().getWorldThread(ctx.netHandler).addScheduledTask(() ->
+        {
+            VehicleMod.proxy.syncTrailerLink(message.entityId, message.trailerId, message.pullingEntityId);
+        });
+        return null;
+    }
+}
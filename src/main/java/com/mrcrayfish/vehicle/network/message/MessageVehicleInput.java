@@ -0,0 +1,224 @@
+package com.mrcrayfish.vehicle.network.message;
+
+import com.mrcrayfish.vehicle.entity.EntityHelicopter;
+import com.mrcrayfish.vehicle.entity.EntityPlane;
+import com.mrcrayfish.vehicle.entity.EntityPoweredVehicle;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sends all of the driver's inputs in one message. Only the fields that changed since the last
+ * message are written, and power, speed and angles are quantized to fit into one or two bytes.
+ */
+public class MessageVehicleInput implements IMessage, IMessageHandler<MessageVehicleInput, IMessage>
+{
+	public static final int POWER = 1;
+	public static final int ACCELERATION = 1 << 1;
+	public static final int HORN = 1 << 2;
+	public static final int TURN_DIRECTION = 1 << 3;
+	public static final int TURN_ANGLE = 1 << 4;
+	public static final int ALTITUDE = 1 << 5;
+	public static final int TRAVEL = 1 << 6;
+	public static final int FLAPS = 1 << 7;
+
+	private static final int VEHICLE_FIELDS = POWER | ACCELERATION | HORN | TURN_DIRECTION | TURN_ANGLE;
+	private static final float TURN_ANGLE_SCALE = 64F;
+	private static final float TRAVEL_DIRECTION_SCALE = 100F;
+
+	private int sequence;
+	private int fields;
+	private int changed;
+
+	private int power;
+	private int acceleration;
+	private boolean horn;
+	private int turnDirection;
+	private int turnAngle;
+	private int altitudeChange;
+	private int travelSpeed;
+	private int travelDirection;
+	private int flapDirection;
+
+	public MessageVehicleInput() {}
+
+	/**
+	 * Captures the current inputs of the given vehicle. All fields the vehicle supports are marked
+	 * as changed until {@link #prepare(int, int)} narrows them down.
+	 */
+	public MessageVehicleInput(EntityPoweredVehicle vehicle)
+	{
+		this.fields = VEHICLE_FIELDS;
+		this.power = quantizeUnit(vehicle.getPower());
+		this.acceleration = vehicle.getAcceleration().ordinal();
+		this.horn = vehicle.getHorn();
+		this.turnDirection = vehicle.getTurnDirection().ordinal();
+		this.turnAngle = quantizeAngle(vehicle.getTargetTurnAngle(), TURN_ANGLE_SCALE);
+
+		if(vehicle instanceof EntityHelicopter)
+		{
+			EntityHelicopter helicopter = (EntityHelicopter) vehicle;
+			this.fields |= ALTITUDE | TRAVEL;
+			this.altitudeChange = helicopter.getAltitudeChange().ordinal();
+			this.travelSpeed = quantizeUnit(helicopter.getTravelSpeed());
+			this.travelDirection = quantizeAngle(MathHelper.wrapDegrees(helicopter.getTravelDirection()), TRAVEL_DIRECTION_SCALE);
+		}
+
+		if(vehicle instanceof EntityPlane)
+		{
+			this.fields |= FLAPS;
+			this.flapDirection = ((EntityPlane) vehicle).getFlapDirection().ordinal();
+		}
+
+		this.changed = this.fields;
+	}
+
+	/**
+	 * Gets the fields that differ from a previously sent message. If there is no previous message,
+	 * every field is considered changed.
+	 */
+	public int getChanges(@Nullable MessageVehicleInput previous)
+	{
+		if(previous == null || previous.fields != this.fields)
+		{
+			return this.fields;
+		}
+		int changes = 0;
+		if(this.power != previous.power) changes |= POWER;
+		if(this.acceleration != previous.acceleration) changes |= ACCELERATION;
+		if(this.horn != previous.horn) changes |= HORN;
+		if(this.turnDirection != previous.turnDirection) changes |= TURN_DIRECTION;
+		if(this.turnAngle != previous.turnAngle) changes |= TURN_ANGLE;
+		if(this.altitudeChange != previous.altitudeChange) changes |= ALTITUDE;
+		if(this.travelSpeed != previous.travelSpeed || this.travelDirection != previous.travelDirection) changes |= TRAVEL;
+		if(this.flapDirection != previous.flapDirection) changes |= FLAPS;
+		return changes & this.fields;
+	}
+
+	public void prepare(int sequence, int changed)
+	{
+		this.sequence = sequence & 0xFFFF;
+		this.changed = changed & this.fields;
+	}
+
+	public int getFields()
+	{
+		return this.fields;
+	}
+
+	/**
+	 * Applies the changed fields to the vehicle. The client applies its own message too so both
+	 * sides simulate with the same quantized values.
+	 */
+	public void apply(EntityPoweredVehicle vehicle)
+	{
+		if((this.changed & POWER) != 0)
+		{
+			vehicle.setPower(this.power / 255F);
+		}
+		if((this.changed & ACCELERATION) != 0)
+		{
+			vehicle.setAcceleration(EntityPoweredVehicle.AccelerationDirection.values()[this.acceleration]);
+		}
+		if((this.changed & HORN) != 0)
+		{
+			vehicle.setHorn(this.horn);
+		}
+		if((this.changed & TURN_DIRECTION) != 0)
+		{
+			vehicle.setTurnDirection(EntityPoweredVehicle.TurnDirection.values()[this.turnDirection]);
+		}
+		if((this.changed & TURN_ANGLE) != 0)
+		{
+			vehicle.setTargetTurnAngle(this.turnAngle / TURN_ANGLE_SCALE);
+		}
+		if(vehicle instanceof EntityHelicopter)
+		{
+			EntityHelicopter helicopter = (EntityHelicopter) vehicle;
+			if((this.changed & ALTITUDE) != 0)
+			{
+				helicopter.setAltitudeChange(EntityHelicopter.AltitudeChange.values()[this.altitudeChange]);
+			}
+			if((this.changed & TRAVEL) != 0)
+			{
+				helicopter.setTravelSpeed(this.travelSpeed / 255F);
+				helicopter.setTravelDirection(this.travelDirection / TRAVEL_DIRECTION_SCALE);
+			}
+		}
+		if(vehicle instanceof EntityPlane && (this.changed & FLAPS) != 0)
+		{
+			((EntityPlane) vehicle).setFlapDirection(EntityPlane.FlapDirection.values()[this.flapDirection]);
+		}
+	}
+
+	@Override
+	public void toBytes(ByteBuf buf)
+	{
+		buf.writeShort(this.sequence);
+		buf.writeByte(this.changed);
+		if((this.changed & POWER) != 0) buf.writeByte(this.power);
+		if((this.changed & ACCELERATION) != 0) buf.writeByte(this.acceleration);
+		if((this.changed & HORN) != 0) buf.writeBoolean(this.horn);
+		if((this.changed & TURN_DIRECTION) != 0) buf.writeByte(this.turnDirection);
+		if((this.changed & TURN_ANGLE) != 0) buf.writeShort(this.turnAngle);
+		if((this.changed & ALTITUDE) != 0) buf.writeByte(this.altitudeChange);
+		if((this.changed & TRAVEL) != 0)
+		{
+			buf.writeByte(this.travelSpeed);
+			buf.writeShort(this.travelDirection);
+		}
+		if((this.changed & FLAPS) != 0) buf.writeByte(this.flapDirection);
+	}
+
+	@Override
+	public void fromBytes(ByteBuf buf)
+	{
+		this.sequence = buf.readUnsignedShort();
+		this.changed = buf.readUnsignedByte();
+		this.fields = this.changed;
+		if((this.changed & POWER) != 0) this.power = buf.readUnsignedByte();
+		if((this.changed & ACCELERATION) != 0) this.acceleration = buf.readUnsignedByte();
+		if((this.changed & HORN) != 0) this.horn = buf.readBoolean();
+		if((this.changed & TURN_DIRECTION) != 0) this.turnDirection = buf.readUnsignedByte();
+		if((this.changed & TURN_ANGLE) != 0) this.turnAngle = buf.readShort();
+		if((this.changed & ALTITUDE) != 0) this.altitudeChange = buf.readUnsignedByte();
+		if((this.changed & TRAVEL) != 0)
+		{
+			this.travelSpeed = buf.readUnsignedByte();
+			this.travelDirection = buf.readShort();
+		}
+		if((this.changed & FLAPS) != 0) this.flapDirection = buf.readUnsignedByte();
+	}
+
+	@Override
+	public IMessage onMessage(MessageVehicleInput message, MessageContext ctx)
+	{
+		FMLCommonHandler.instance().getWorldThread(ctx.netHandler).addScheduledTask(() ->
+		{
+			Entity riding = ctx.getServerHandler().player.getRidingEntity();
+			if(riding instanceof EntityPoweredVehicle)
+			{
+				EntityPoweredVehicle vehicle = (EntityPoweredVehicle) riding;
+				message.apply(vehicle);
+				vehicle.setLastInputSequence(message.sequence);
+			}
+		});
+		return null;
+	}
+
+	private static int quantizeUnit(float value)
+	{
+		return Math.round(MathHelper.clamp(value, 0F, 1F) * 255F);
+	}
+
+	private static int quantizeAngle(float angle, float scale)
+	{
+		return MathHelper.clamp(Math.round(angle * scale), Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+}
@@ -0,0 +1,54 @@
+package com.mrcrayfish.vehicle.network.message;
+
+import com.mrcrayfish.vehicle.VehicleMod;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Acknowledges an input of the driver with the state the server simulated from it, so the
+ * driver's client can correct its prediction.
+ */
+public class MessageVehicleState implements IMessage, IMessageHandler<MessageVehicleState, IMessage>
+{
+	private int entityId;
+	private int sequence;
+	private float speed;
+
+	public MessageVehicleState() {}
+
+	public MessageVehicleState(int entityId, int sequence, float speed)
+	{
+		this.entityId = entityId;
+		this.sequence = sequence;
+		this.speed = speed;
+	}
+
+	@Override
+	public void toBytes(ByteBuf buf)
+	{
+		buf.writeInt(this.entityId);
+		buf.writeShort(this.sequence);
+		buf.writeFloat(this.speed);
+	}
+
+	@Override
+	public void fromBytes(ByteBuf buf)
+	{
+		this.entityId = buf.readInt();
+		this.sequence = buf.readUnsignedShort();
+		this.speed = buf.readFloat();
+	}
+
+	@Override
+	public IMessage onMessage(MessageVehicleState message, MessageContext ctx)
+	{
+		FMLCommonHandler.instance().getWorldThread(ctx.netHandler).addScheduledTask(() ->
+		{
+			VehicleMod.proxy.reconcileVehicle(message.entityId, message.sequence, message.speed);
+		});
+		return null;
+	}
+}
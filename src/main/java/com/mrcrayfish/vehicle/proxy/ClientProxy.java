@@ -20,11 +20,13 @@ import com.mrcrayfish.vehicle.client.render.*;
 import com.mrcrayfish.vehicle.client.render.tileentity.*;
 import com.mrcrayfish.vehicle.client.render.vehicle.*;
 import com.mrcrayfish.vehicle.common.entity.HeldVehicleDataHandler;
+import com.mrcrayfish.vehicle.common.entity.HeldVehicleDescriptor;
 import com.mrcrayfish.vehicle.common.entity.SyncedPlayerData;
 import com.mrcrayfish.vehicle.common.inventory.IStorage;
 import com.mrcrayfish.vehicle.entity.EntityHelicopter;
 import com.mrcrayfish.vehicle.entity.EntityPlane;
 import com.mrcrayfish.vehicle.entity.EntityPoweredVehicle;
+import com.mrcrayfish.vehicle.entity.EntityTrailer;
 import com.mrcrayfish.vehicle.entity.EntityVehicle;
 import com.mrcrayfish.vehicle.entity.trailer.*;
 import com.mrcrayfish.vehicle.entity.vehicle.*;
@@ -35,6 +37,7 @@ import com.mrcrayfish.vehicle.item.ItemPart;
 import com.mrcrayfish.vehicle.item.ItemSprayCan;
 import com.mrcrayfish.vehicle.tileentity.*;
 import com.mrcrayfish.vehicle.util.FluidUtils;
+import com.mrcrayfish.vehicle.util.ModelRenderCache;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
@@ -72,6 +75,7 @@ import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import org.lwjgl.input.Keyboard;
 
+import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -176,6 +180,7 @@ public class ClientProxy implements Proxy
         {
             FluidUtils.clearCacheFluidColor();
             EntityRaytracer.clearDataForReregistration();
+            ModelRenderCache.clear();
         });
     }
 
@@ -624,7 +629,7 @@ public class ClientProxy implements Proxy
     }
 
     @Override
-    public void syncPlayerSeat(int entityId, int seatIndex, UUID uuid)
+    public void syncSeatTracker(int entityId, Map<UUID, Integer> playerSeatMap)
     {
         EntityPlayerSP clientPlayer = Minecraft.getMinecraft().player;
         if(clientPlayer != null)
@@ -633,19 +638,19 @@ public class ClientProxy implements Proxy
             if(entity instanceof EntityVehicle)
             {
                 EntityVehicle vehicle = (EntityVehicle) entity;
-                vehicle.getSeatTracker().setSeatIndex(seatIndex, uuid);
+                vehicle.getSeatTracker().setPlayerSeatMap(playerSeatMap);
             }
         }
     }
 
     @Override
-    public void syncHeldVehicle(int entityId, NBTTagCompound tagCompound)
+    public void syncHeldVehicle(int entityId, @Nullable HeldVehicleDescriptor descriptor)
     {
         World world = Minecraft.getMinecraft().world;
         Entity entity = world.getEntityByID(entityId);
         if(entity instanceof EntityPlayer)
         {
-            HeldVehicleDataHandler.setHeldVehicle((EntityPlayer) entity, tagCompound);
+            HeldVehicleDataHandler.setHeldVehicleDescriptor((EntityPlayer) entity, descriptor);
         }
     }
 
@@ -663,26 +668,28 @@ public class ClientProxy implements Proxy
     }
 
     @Override
-    public void syncTrailer(int entityId, int trailer)
+    public void reconcileVehicle(int entityId, int sequence, float speed)
     {
         World world = Minecraft.getMinecraft().world;
         Entity entity = world.getEntityByID(entityId);
-        if(entity instanceof EntityPlayer)
+        if(entity instanceof EntityPoweredVehicle)
         {
-            EntityPlayer player = (EntityPlayer) entity;
-            SyncedPlayerData.setTrailer(player, trailer);
+            ((EntityPoweredVehicle) entity).reconcile(sequence, speed);
         }
     }
 
     @Override
-    public void syncGasPumpPos(int entityId, Optional<BlockPos> gasPumpPos)
+    public void syncTrailerLink(int entityId, int trailerId, int pullingEntityId)
     {
         World world = Minecraft.getMinecraft().world;
         Entity entity = world.getEntityByID(entityId);
-        if(entity instanceof EntityPlayer)
+        if(entity instanceof EntityVehicle)
         {
-            EntityPlayer player = (EntityPlayer) entity;
-            SyncedPlayerData.setGasPumpPos(player, gasPumpPos);
+            ((EntityVehicle) entity).setTrailerEntityId(trailerId);
+        }
+        if(entity instanceof EntityTrailer)
+        {
+            ((EntityTrailer) entity).setPullingEntityId(pullingEntityId);
         }
     }
 
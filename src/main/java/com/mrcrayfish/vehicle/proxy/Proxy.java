@@ -1,6 +1,7 @@
 package com.mrcrayfish.vehicle.proxy;
 
 import com.google.common.base.Optional;
+import com.mrcrayfish.vehicle.common.entity.HeldVehicleDescriptor;
 import com.mrcrayfish.vehicle.entity.EntityHelicopter;
 import com.mrcrayfish.vehicle.entity.EntityPlane;
 import com.mrcrayfish.vehicle.entity.EntityPoweredVehicle;
@@ -13,6 +14,8 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.fluids.FluidStack;
 
+import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,13 +35,13 @@ public interface Proxy
 
     default void syncStorageInventory(int entityId, NBTTagCompound tagCompound) {}
 
-    default void syncHeldVehicle(int entityId, NBTTagCompound tagCompound) {}
+    default void syncHeldVehicle(int entityId, @Nullable HeldVehicleDescriptor descriptor) {}
 
     default void syncPlayerData(int entityId, int trailer, Optional<BlockPos> gasPumpPos) {}
 
-    default void syncTrailer(int entityId, int trailer) {}
+    default void syncTrailerLink(int entityId, int trailerId, int pullingEntityId) {}
 
-    default void syncGasPumpPos(int entityId, Optional<BlockPos> gasPumpPos) {}
+    default void reconcileVehicle(int entityId, int sequence, float speed) {}
 
     default void syncEntityFluid(int entityId, FluidStack stack) {}
 
@@ -96,7 +99,7 @@ public interface Proxy
         return 1.0F;
     }
 
-    default void syncPlayerSeat(int entityId, int seatIndex, UUID uuid) {}
+    default void syncSeatTracker(int entityId, Map<UUID, Integer> playerSeatMap) {}
 
     default void spawnWheelParticle(BlockPos pos, IBlockState state, double x, double y, double z, Vec3d motion) {}
 
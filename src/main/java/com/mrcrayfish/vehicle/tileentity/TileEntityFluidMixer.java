@@ -36,9 +36,30 @@ public class TileEntityFluidMixer extends TileEntitySynced implements IInventory
 {
     private NonNullList<ItemStack> inventory = NonNullList.withSize(7, ItemStack.EMPTY);
 
-    private FluidTank tankBlaze = new FluidTankMixerInput(Fluid.BUCKET_VOLUME * 5);
-    private FluidTank tankEnderSap = new FluidTankMixerInput(Fluid.BUCKET_VOLUME * 5);
-    private FluidTank tankFuelium = new FluidTank(Fluid.BUCKET_VOLUME * 10);
+    private FluidTank tankBlaze = new FluidTankMixerInput(Fluid.BUCKET_VOLUME * 5)
+    {
+        @Override
+        protected void onContentsChanged()
+        {
+            markRecipeDirty();
+        }
+    };
+    private FluidTank tankEnderSap = new FluidTankMixerInput(Fluid.BUCKET_VOLUME * 5)
+    {
+        @Override
+        protected void onContentsChanged()
+        {
+            markRecipeDirty();
+        }
+    };
+    private FluidTank tankFuelium = new FluidTank(Fluid.BUCKET_VOLUME * 10)
+    {
+        @Override
+        protected void onContentsChanged()
+        {
+            markRecipeDirty();
+        }
+    };
 
     public static final int FLUID_MAX_PROGRESS = 20 * 5;
     private static final int SLOT_FUEL = 0;
@@ -48,6 +69,12 @@ public class TileEntityFluidMixer extends TileEntitySynced implements IInventory
     private int fuelMaxProgress;
     private int extractionProgress;
 
+    /* The recipe for the current contents, only looked up again after the inventory or tanks change */
+    private FluidMixerRecipe currentRecipe;
+    private boolean mixable;
+    private boolean recipeDirty = true;
+    private boolean sleeping;
+
     private String customName;
 
     public TileEntityFluidMixer()
@@ -94,6 +121,7 @@ public class TileEntityFluidMixer extends TileEntitySynced implements IInventory
     @Override
     public ItemStack removeStackFromSlot(int index)
     {
+        this.markRecipeDirty();
         return ItemStackHelper.getAndRemove(inventory, index);
     }
 
@@ -209,49 +237,72 @@ public class TileEntityFluidMixer extends TileEntitySynced implements IInventory
     public void clear()
     {
         inventory.clear();
+        this.markRecipeDirty();
+    }
+
+    @Override
+    public void markDirty()
+    {
+        super.markDirty();
+        this.markRecipeDirty();
+    }
+
+    /**
+     * Forces the recipe to be looked up again on the next update and wakes the mixer up if it was
+     * sleeping. Called whenever the inventory or one of the tanks change.
+     */
+    private void markRecipeDirty()
+    {
+        recipeDirty = true;
+        sleeping = false;
+    }
+
+    public boolean isSleeping()
+    {
+        return sleeping;
     }
 
     @Override
     public void update()
     {
-        if(!world.isRemote)
+        if(world.isRemote || sleeping)
+            return;
+
+        if(recipeDirty)
         {
+            recipeDirty = false;
+            currentRecipe = null;
             ItemStack ingredient = this.getStackInSlot(SLOT_INGREDIENT);
             if(tankBlaze.getFluid() != null && tankEnderSap.getFluid() != null && !ingredient.isEmpty())
             {
-                FluidMixerRecipe recipe = FluidMixerRecipes.getInstance().getRecipe(tankBlaze.getFluid().getFluid(), tankEnderSap.getFluid().getFluid(), ingredient);
-                if(recipe != null && canMix(recipe))
-                {
-                    ItemStack fuel = this.getStackInSlot(SLOT_FUEL);
-                    if(!fuel.isEmpty() && TileEntityFurnace.getItemBurnTime(fuel) > 0 && remainingFuel == 0)
-                    {
-                        fuelMaxProgress = TileEntityFurnace.getItemBurnTime(fuel);
-                        remainingFuel = fuelMaxProgress;
-                        shrinkItem(SLOT_FUEL);
-                    }
+                currentRecipe = FluidMixerRecipes.getInstance().getRecipe(tankBlaze.getFluid().getFluid(), tankEnderSap.getFluid().getFluid(), ingredient);
+            }
+            mixable = currentRecipe != null && canMix(currentRecipe);
+        }
 
-                    if(remainingFuel > 0 && canMix(recipe))
-                    {
-                        if(extractionProgress++ == FLUID_MAX_PROGRESS)
-                        {
-                            FluidExtract extract = FluidMixerRecipes.getInstance().getRecipeResult(recipe);
-                            if(extract != null)
-                            {
-                                tankFuelium.fillInternal(extract.createStack(), true);
-                                tankBlaze.drain(recipe.getFluidAmount(tankBlaze.getFluid().getFluid()), true);
-                                tankEnderSap.drain(recipe.getFluidAmount(tankEnderSap.getFluid().getFluid()), true);
-                                shrinkItem(SLOT_INGREDIENT);
-                            }
-                            extractionProgress = 0;
-                        }
-                    }
-                    else
+        if(mixable)
+        {
+            ItemStack fuel = this.getStackInSlot(SLOT_FUEL);
+            if(!fuel.isEmpty() && TileEntityFurnace.getItemBurnTime(fuel) > 0 && remainingFuel == 0)
+            {
+                fuelMaxProgress = TileEntityFurnace.getItemBurnTime(fuel);
+                remainingFuel = fuelMaxProgress;
+                shrinkItem(SLOT_FUEL);
+            }
+
+            if(remainingFuel > 0)
+            {
+                if(extractionProgress++ == FLUID_MAX_PROGRESS)
+                {
+                    FluidMixerRecipe recipe = currentRecipe;
+                    FluidExtract extract = FluidMixerRecipes.getInstance().getRecipeResult(recipe);
+                    if(extract != null)
                     {
-                        extractionProgress = 0;
+                        tankFuelium.fillInternal(extract.createStack(), true);
+                        tankBlaze.drain(recipe.getFluidAmount(tankBlaze.getFluid().getFluid()), true);
+                        tankEnderSap.drain(recipe.getFluidAmount(tankEnderSap.getFluid().getFluid()), true);
+                        shrinkItem(SLOT_INGREDIENT);
                     }
-                }
-                else
-                {
                     extractionProgress = 0;
                 }
             }
@@ -259,11 +310,20 @@ public class TileEntityFluidMixer extends TileEntitySynced implements IInventory
             {
                 extractionProgress = 0;
             }
+        }
+        else
+        {
+            extractionProgress = 0;
+        }
 
-            if(remainingFuel > 0)
-            {
-                remainingFuel--;
-            }
+        if(remainingFuel > 0)
+        {
+            remainingFuel--;
+        }
+        else if(extractionProgress == 0)
+        {
+            // Nothing is burning or mixing, so nothing can change until the inventory or a tank does
+            sleeping = true;
         }
     }
 
@@ -292,6 +352,7 @@ public class TileEntityFluidMixer extends TileEntitySynced implements IInventory
     public void readFromNBT(NBTTagCompound tag)
     {
         super.readFromNBT(tag);
+        this.markRecipeDirty();
         if(tag.hasKey("Items", Constants.NBT.TAG_LIST))
         {
             inventory = NonNullList.withSize(this.getSizeInventory(), ItemStack.EMPTY);
@@ -2,13 +2,14 @@ package com.mrcrayfish.vehicle.tileentity;
 
 import com.mrcrayfish.vehicle.VehicleConfig;
 import com.mrcrayfish.vehicle.block.BlockFluidPipe;
+import com.mrcrayfish.vehicle.fluid.FluidNetwork;
+import com.mrcrayfish.vehicle.fluid.FluidNetworkManager;
 import com.mrcrayfish.vehicle.util.FluidUtils;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fluids.FluidTank;
@@ -21,19 +22,77 @@ import java.util.List;
 /**
  * Author: MrCrayfish
  */
-public class TileEntityFluidPipe extends TileFluidHandlerSynced implements ITickable
+public class TileEntityFluidPipe extends TileFluidHandlerSynced
 {
+    /* How often a pipe without a connected tile entity looks for one or for a fluid entity */
+    private static final int HANDLER_SEARCH_INTERVAL = 20;
+
     protected int capacity, transferAmount;
     protected boolean[] disabledConnections;
 
+    protected FluidNetwork network;
+    protected EnumFacing facing = EnumFacing.NORTH;
+    protected boolean powered;
+
+    private TileEntity cachedTileEntity;
+    private IFluidHandler cachedTileHandler;
+    private Entity cachedEntity;
+    private AxisAlignedBB handlerBox;
+    private long nextHandlerSearch;
+
     public TileEntityFluidPipe()
     {
         this.capacity = 500;
         this.transferAmount = VehicleConfig.SERVER.pipeTransferAmount;
-        this.tank = new FluidTank(this.capacity);
+        this.tank = new FluidTank(this.capacity)
+        {
+            @Override
+            protected void onContentsChanged()
+            {
+                if(network != null)
+                {
+                    network.wake();
+                }
+            }
+        };
         this.disabledConnections = new boolean[EnumFacing.values().length];
     }
 
+    public FluidTank getFluidTank()
+    {
+        return tank;
+    }
+
+    @Nullable
+    public FluidNetwork getNetwork()
+    {
+        return network;
+    }
+
+    public void setNetwork(@Nullable FluidNetwork network)
+    {
+        this.network = network;
+    }
+
+    @Override
+    public void onLoad()
+    {
+        FluidNetworkManager.add(this);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        FluidNetworkManager.remove(this);
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        FluidNetworkManager.remove(this);
+    }
+
     public static boolean[] getDisabledConnections(TileEntityFluidPipe pipe)
     {
         return pipe != null ? pipe.getDisabledConnections() : new boolean[EnumFacing.values().length];
@@ -56,8 +115,15 @@ public class TileEntityFluidPipe extends TileFluidHandlerSynced implements ITick
 
     public void setConnectionDisabled(int indexFacing, boolean disabled)
     {
+        boolean changed = disabledConnections[indexFacing] != disabled;
         disabledConnections[indexFacing] = disabled;
         syncToClient();
+        if(changed && !world.isRemote)
+        {
+            /* The adjacent pipe checks this connection before using it as a handler */
+            FluidNetworkManager.invalidate(world, pos);
+            FluidNetworkManager.invalidate(world, pos.offset(EnumFacing.VALUES[indexFacing]));
+        }
     }
 
     public void setConnectionDisabled(EnumFacing facing, boolean disabled)
@@ -65,24 +131,112 @@ public class TileEntityFluidPipe extends TileFluidHandlerSynced implements ITick
         setConnectionDisabled(facing.getIndex(), disabled);
     }
 
-    @Override
-    public void update()
+    /**
+     * Caches the block state and connections of this pipe. Called when the network this pipe
+     * belongs to is built and again whenever a neighbouring block changes.
+     */
+    public void refreshConnections()
     {
-        if(tank.getFluid() == null)
-            return;
+        IBlockState state = world.getBlockState(pos);
+        if(state.getBlock() instanceof BlockFluidPipe)
+        {
+            facing = state.getValue(BlockFluidPipe.FACING);
+        }
+        powered = world.isBlockPowered(pos);
 
-        if(world.isBlockPowered(pos))
-            return;
+        EnumFacing handlerFacing = getHandlerFacing();
+        handlerBox = new AxisAlignedBB(pos.offset(handlerFacing));
+        cachedEntity = null;
+        nextHandlerSearch = 0;
+        findTileFluidHandler(handlerFacing);
+    }
 
-        IFluidHandler handler = getConnectedFluidHandler(world.getBlockState(pos).getValue(BlockFluidPipe.FACING));
-        if (handler != null)
+    /**
+     * Gets the side this pipe exchanges fluid with outside of its own connections. For a pipe this
+     * is the side it points to.
+     */
+    protected EnumFacing getHandlerFacing()
+    {
+        return facing;
+    }
+
+    /**
+     * Checks if fluid moves from this pipe towards the given side. Used to update networks from
+     * upstream to downstream.
+     */
+    public boolean isDownstream(EnumFacing side)
+    {
+        return side == facing;
+    }
+
+    /**
+     * Moves fluid out of this pipe.
+     *
+     * @return the amount of fluid that was moved
+     */
+    public int transferFluid()
+    {
+        if(tank.getFluid() == null || powered)
+            return 0;
+
+        IFluidHandler handler = getCachedFluidHandler();
+        if(handler != null)
         {
-            FluidUtils.transferFluid(tank, handler, transferAmount);
+            return FluidUtils.transferFluid(tank, handler, transferAmount);
         }
+        return 0;
     }
 
+    /**
+     * Gets the fluid handler on the side returned by {@link #getHandlerFacing()}. Tile entities are
+     * cached until the network is rebuilt, fluid entities are only searched for every second.
+     */
     @Nullable
-    protected IFluidHandler getConnectedFluidHandler(EnumFacing facing)
+    protected IFluidHandler getCachedFluidHandler()
+    {
+        if(cachedTileEntity != null)
+        {
+            if(!cachedTileEntity.isInvalid() && world.isBlockLoaded(cachedTileEntity.getPos()))
+            {
+                return cachedTileHandler;
+            }
+            cachedTileEntity = null;
+            cachedTileHandler = null;
+        }
+
+        if(cachedEntity != null && (cachedEntity.isDead || !cachedEntity.getEntityBoundingBox().intersects(handlerBox)))
+        {
+            cachedEntity = null;
+        }
+
+        if(cachedEntity == null && world.getTotalWorldTime() >= nextHandlerSearch)
+        {
+            nextHandlerSearch = world.getTotalWorldTime() + HANDLER_SEARCH_INTERVAL;
+            EnumFacing handlerFacing = getHandlerFacing();
+            if(findTileFluidHandler(handlerFacing))
+            {
+                return cachedTileHandler;
+            }
+            List<Entity> fluidEntities = world.getEntitiesWithinAABB(Entity.class, handlerBox, entity -> entity != null && entity.hasCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, null));
+            if(!fluidEntities.isEmpty())
+            {
+                cachedEntity = fluidEntities.get(0);
+            }
+        }
+
+        return cachedEntity != null ? cachedEntity.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, null) : null;
+    }
+
+    private boolean findTileFluidHandler(EnumFacing facing)
+    {
+        BlockPos adjacentPos = pos.offset(facing);
+        cachedTileHandler = world.isBlockLoaded(adjacentPos) ? getTileFluidHandler(facing) : null;
+        cachedTileEntity = cachedTileHandler != null ? world.getTileEntity(adjacentPos) : null;
+        return cachedTileHandler != null;
+    }
+
+    @Nullable
+    protected IFluidHandler getTileFluidHandler(EnumFacing facing)
     {
         BlockPos adjacentPos = pos.offset(facing);
         TileEntity tileEntity = world.getTileEntity(adjacentPos);
@@ -104,13 +258,6 @@ public class TileEntityFluidPipe extends TileFluidHandlerSynced implements ITick
                 return handler;
             }
         }
-
-        List<Entity> fluidEntities = world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(adjacentPos), entity -> entity != null && entity.hasCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, null));
-        if(!fluidEntities.isEmpty())
-        {
-            return fluidEntities.get(0).getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, null);
-        }
-
         return null;
     }
 
@@ -3,17 +3,16 @@ package com.mrcrayfish.vehicle.tileentity;
 import com.mrcrayfish.vehicle.Reference;
 import com.mrcrayfish.vehicle.VehicleConfig;
 import com.mrcrayfish.vehicle.block.BlockFluidPump;
+import com.mrcrayfish.vehicle.fluid.FluidNetworkManager;
 import com.mrcrayfish.vehicle.util.FluidUtils;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Author: MrCrayfish
  */
@@ -21,6 +20,13 @@ public class TileEntityFluidPump extends TileEntityFluidPipe
 {
     private PowerMode powerMode;
 
+    /* Outputs resolved when the network is rebuilt, plus a scratch array used while distributing */
+    private final TileEntity[] outputTiles = new TileEntity[EnumFacing.VALUES.length];
+    private final IFluidHandler[] outputHandlers = new IFluidHandler[EnumFacing.VALUES.length];
+    private final IFluidHandler[] activeHandlers = new IFluidHandler[EnumFacing.VALUES.length];
+    private int outputCount;
+    private int remainderOffset;
+
     public TileEntityFluidPump()
     {
         this.transferAmount = VehicleConfig.SERVER.pumpTransferAmount;
@@ -52,75 +58,122 @@ public class TileEntityFluidPump extends TileEntityFluidPipe
         powerMode = PowerMode.values()[(powerMode.ordinal() + 1) % PowerMode.values().length];
         powerMode.notifyPlayerOfChange(player);
         syncToClient();
+        if(network != null)
+        {
+            network.wake();
+        }
     }
 
     @Override
-    public void update()
+    protected EnumFacing getHandlerFacing()
     {
-        if(powerMode != PowerMode.ALWAYS_ACTIVE && (world.isBlockPowered(pos) != (powerMode == PowerMode.RQUIRES_SIGNAL_ON)))
-            return;
+        return facing.getOpposite();
+    }
 
-        IBlockState state = world.getBlockState(pos);
-        EnumFacing facing = state.getValue(BlockFluidPump.FACING);
+    @Override
+    public boolean isDownstream(EnumFacing side)
+    {
+        return side != facing.getOpposite();
+    }
+
+    @Override
+    public void refreshConnections()
+    {
+        super.refreshConnections();
 
         // Collect connections
-        state = state.getActualState(world, pos);
-        List<IFluidHandler> fluidHandlers = new ArrayList<>();
+        outputCount = 0;
+        IBlockState state = world.getBlockState(pos).getActualState(world, pos);
+        if(!(state.getBlock() instanceof BlockFluidPump))
+            return;
+
         for(EnumFacing face : EnumFacing.VALUES)
         {
             if(!disabledConnections[face.getIndex()] && state.getValue(BlockFluidPump.CONNECTED_PIPES[face.getIndex()]))
             {
-                IFluidHandler handler = getConnectedFluidHandler(face);
+                IFluidHandler handler = getTileFluidHandler(face);
                 if (handler != null)
                 {
-                    fluidHandlers.add(handler);
+                    outputTiles[outputCount] = world.getTileEntity(pos.offset(face));
+                    outputHandlers[outputCount] = handler;
+                    outputCount++;
                 }
             }
         }
+    }
 
-        int outputCount = fluidHandlers.size();
-        if(outputCount == 0)
-            return;
+    @Override
+    public int transferFluid()
+    {
+        if(powerMode != PowerMode.ALWAYS_ACTIVE && (powered != (powerMode == PowerMode.RQUIRES_SIGNAL_ON)))
+            return 0;
+
+        // Skip outputs that were removed or unloaded since the network was last rebuilt
+        int count = 0;
+        for(int i = 0; i < this.outputCount; i++)
+        {
+            TileEntity tileEntity = outputTiles[i];
+            if(!tileEntity.isInvalid() && world.isBlockLoaded(tileEntity.getPos()))
+            {
+                activeHandlers[count++] = outputHandlers[i];
+            }
+        }
+        if(count < this.outputCount)
+        {
+            FluidNetworkManager.invalidate(world, pos);
+        }
 
-        IFluidHandler handler = getConnectedFluidHandler(facing.getOpposite());
+        if(count == 0)
+            return 0;
+
+        int pumped = 0;
+        IFluidHandler handler = getCachedFluidHandler();
         if (handler != null)
         {
-            FluidUtils.transferFluid(handler, tank, transferAmount);
+            pumped = FluidUtils.transferFluid(handler, tank, transferAmount);
         }
 
         // Return and transfer full amount if one connection
-        if (outputCount == 1)
+        if (count == 1)
         {
-            FluidUtils.transferFluid(tank, fluidHandlers.get(0), transferAmount);
-            return;
+            return pumped + FluidUtils.transferFluid(tank, activeHandlers[0], transferAmount);
         }
 
-        // Evenly distribute truncated proportion to all connections
-        int remainder = Math.min(tank.getFluidAmount(), transferAmount * outputCount);
-        int amount = remainder / outputCount;
+        int stored = tank.getFluidAmount();
+
+        // Evenly distribute truncated proportion to all connections, keeping the ones that accepted all of it
+        int outputs = count;
+        int remainder = Math.min(tank.getFluidAmount(), transferAmount * outputs);
+        int amount = remainder / outputs;
         if(amount > 0)
         {
-            fluidHandlers.removeIf(iFluidHandler -> FluidUtils.transferFluid(tank, iFluidHandler, amount) < amount);
+            int kept = 0;
+            for(int i = 0; i < count; i++)
+            {
+                if(FluidUtils.transferFluid(tank, activeHandlers[i], amount) >= amount)
+                {
+                    activeHandlers[kept++] = activeHandlers[i];
+                }
+            }
+            count = kept;
         }
 
-        // Randomly distribute to the remaining non-full connections the proportion that would otherwise be lost in the above truncation
-        remainder %= outputCount;
-        if(fluidHandlers.size() == 1)
+        // Distribute to the remaining non-full connections the proportion that would otherwise be lost in the above truncation
+        remainder %= outputs;
+        if(count == 1)
         {
-            FluidUtils.transferFluid(tank, fluidHandlers.get(0), remainder);
+            FluidUtils.transferFluid(tank, activeHandlers[0], remainder);
         }
-
-        int filled;
-        for(int i = 0; i < remainder && !fluidHandlers.isEmpty(); i++)
+        else if(count > 1)
         {
-            int index = world.rand.nextInt(fluidHandlers.size());
-            filled = FluidUtils.transferFluid(tank, fluidHandlers.get(index), 1);
-            remainder -= filled;
-            if(filled == 0)
+            // Each connection gets at most one unit, starting from a different connection every tick so it evens out over time
+            int start = Math.floorMod(remainderOffset++, count);
+            for(int i = 0; i < count && remainder > 0; i++)
             {
-                fluidHandlers.remove(index);
+                remainder -= FluidUtils.transferFluid(tank, activeHandlers[(start + i) % count], 1);
             }
         }
+        return pumped + stored - tank.getFluidAmount();
     }
 
     @Override
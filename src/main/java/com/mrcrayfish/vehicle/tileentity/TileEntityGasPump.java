@@ -2,7 +2,7 @@ package com.mrcrayfish.vehicle.tileentity;
 
 import com.google.common.base.Optional;
 import com.mrcrayfish.vehicle.VehicleConfig;
-import com.mrcrayfish.vehicle.client.util.HermiteInterpolator;
+import com.mrcrayfish.vehicle.client.util.HoseMesh;
 import com.mrcrayfish.vehicle.common.CommonEvents;
 import com.mrcrayfish.vehicle.common.entity.SyncedPlayerData;
 import net.minecraft.entity.Entity;
@@ -28,27 +28,16 @@ public class TileEntityGasPump extends TileEntitySynced implements ITickable
     private int fuelingEntityId;
     private EntityPlayer fuelingEntity;
 
-    private HermiteInterpolator cachedSpline;
-    private boolean recentlyUsed;
+    private HoseMesh hoseMesh;
 
-    public HermiteInterpolator getCachedSpline()
-    {
-        return cachedSpline;
-    }
-
-    public void setCachedSpline(HermiteInterpolator cachedSpline)
-    {
-        this.cachedSpline = cachedSpline;
-    }
-
-    public boolean isRecentlyUsed()
-    {
-        return recentlyUsed;
-    }
-
-    public void setRecentlyUsed(boolean recentlyUsed)
+    @SideOnly(Side.CLIENT)
+    public HoseMesh getHoseMesh()
     {
-        this.recentlyUsed = recentlyUsed;
+        if(this.hoseMesh == null)
+        {
+            this.hoseMesh = new HoseMesh();
+        }
+        return this.hoseMesh;
     }
 
     @Nullable
@@ -0,0 +1,117 @@
+package com.mrcrayfish.vehicle.util;
+
+import net.minecraft.client.renderer.EntityRenderer;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.item.ItemStack;
+import org.lwjgl.opengl.GL11;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Compiles each combination of model and tint color into a display list the first time it is
+ * rendered, so vehicles don't need to rebuild their vertex data every frame. The lists are
+ * deleted when resources are reloaded, as the models they were built from are replaced. Bodies of
+ * vehicles rendered at low detail are cached the same way.
+ *
+ * Author: MrCrayfish
+ */
+public class ModelRenderCache
+{
+    /* Models with many colors could otherwise fill the cache forever, so it starts over once it gets this big */
+    private static final int MAX_LISTS = 1024;
+
+    private static final Map<Object, Map<Long, Integer>> DISPLAY_LISTS = new IdentityHashMap<>();
+    private static int listCount;
+    private static boolean compiling;
+
+    static void render(IBakedModel model, int color)
+    {
+        /* Display lists can't be compiled inside each other, so the model becomes part of the outer list */
+        if(compiling)
+        {
+            RenderUtil.drawModel(model, color, ItemStack.EMPTY);
+            return;
+        }
+
+        Integer list = getList(model, color);
+        if(list == null)
+        {
+            list = compile(model, color, () -> RenderUtil.drawModel(model, color, ItemStack.EMPTY));
+        }
+        GlStateManager.callList(list);
+    }
+
+    /**
+     * Renders something that is drawn the same way every time from a display list. The owner and
+     * key identify what is drawn, and the draw callback is only run to compile the list.
+     *
+     * @param owner the object the list belongs to, compared by identity
+     * @param key   identifies the variant of the owner that is drawn, such as its color
+     * @param draw  draws the geometry using the current render state
+     */
+    public static void render(Object owner, long key, Runnable draw)
+    {
+        if(compiling)
+        {
+            draw.run();
+            return;
+        }
+
+        Integer list = getList(owner, key);
+        if(list == null)
+        {
+            list = compile(owner, key, draw);
+        }
+        GlStateManager.callList(list);
+    }
+
+    private static Integer getList(Object owner, long key)
+    {
+        Map<Long, Integer> lists = DISPLAY_LISTS.get(owner);
+        return lists != null ? lists.get(key << 1 | (EntityRenderer.anaglyphEnable ? 1 : 0)) : null;
+    }
+
+    private static int compile(Object owner, long key, Runnable draw)
+    {
+        if(listCount >= MAX_LISTS)
+        {
+            clear();
+        }
+
+        int list = GLAllocation.generateDisplayLists(1);
+        GlStateManager.glNewList(list, GL11.GL_COMPILE);
+        compiling = true;
+        try
+        {
+            draw.run();
+        }
+        finally
+        {
+            compiling = false;
+            GlStateManager.glEndList();
+        }
+        DISPLAY_LISTS.computeIfAbsent(owner, o -> new HashMap<>()).put(key << 1 | (EntityRenderer.anaglyphEnable ? 1 : 0), list);
+        listCount++;
+        return list;
+    }
+
+    /**
+     * Deletes all compiled display lists. Called when resources are reloaded.
+     */
+    public static void clear()
+    {
+        for(Map<Long, Integer> lists : DISPLAY_LISTS.values())
+        {
+            for(int list : lists.values())
+            {
+                GLAllocation.deleteDisplayLists(list);
+            }
+        }
+        DISPLAY_LISTS.clear();
+        listCount = 0;
+    }
+}
@@ -1,7 +1,7 @@
 package com.mrcrayfish.vehicle.util;
 
+import com.mrcrayfish.vehicle.client.PartModels;
 import com.mrcrayfish.vehicle.entity.EntityPoweredVehicle;
-import com.mrcrayfish.vehicle.init.ModItems;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.renderer.BufferBuilder;
@@ -102,31 +102,23 @@ public class RenderUtil
     public static void renderColoredModel(IBakedModel model, ItemCameraTransforms.TransformType transformType, int color)
     {
         GlStateManager.pushMatrix();
-        Minecraft.getMinecraft().getTextureManager().bindTexture(TextureMap.LOCATION_BLOCKS_TEXTURE);
-        Minecraft.getMinecraft().getTextureManager().getTexture(TextureMap.LOCATION_BLOCKS_TEXTURE).setBlurMipmap(false, false);
-        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-        GlStateManager.enableRescaleNormal();
-        GlStateManager.alphaFunc(516, 0.1F);
-        GlStateManager.enableBlend();
-        GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
-        GlStateManager.pushMatrix();
-        model = net.minecraftforge.client.ForgeHooksClient.handleCameraTransforms(model, transformType, false);
-        if(!model.isBuiltInRenderer())
-        {
-            renderModel(model, color);
-        }
-        GlStateManager.cullFace(GlStateManager.CullFace.BACK);
-        GlStateManager.popMatrix();
-        GlStateManager.disableRescaleNormal();
-        GlStateManager.disableBlend();
-        Minecraft.getMinecraft().getTextureManager().bindTexture(TextureMap.LOCATION_BLOCKS_TEXTURE);
-        Minecraft.getMinecraft().getTextureManager().getTexture(TextureMap.LOCATION_BLOCKS_TEXTURE).restoreLastBlurMipmap();
+        beginModelBatch();
+        renderBatchedModel(model, transformType, color);
+        endModelBatch();
         GlStateManager.popMatrix();
     }
 
     public static void renderModel(IBakedModel model, ItemCameraTransforms.TransformType transformType)
     {
-        GlStateManager.pushMatrix();
+        renderColoredModel(model, transformType, -1);
+    }
+
+    /**
+     * Sets up the render state for drawing models with {@link #renderBatchedModel}. Drawing many
+     * models between this and {@link #endModelBatch()} only sets the state up once.
+     */
+    public static void beginModelBatch()
+    {
         Minecraft.getMinecraft().getTextureManager().bindTexture(TextureMap.LOCATION_BLOCKS_TEXTURE);
         Minecraft.getMinecraft().getTextureManager().getTexture(TextureMap.LOCATION_BLOCKS_TEXTURE).setBlurMipmap(false, false);
         GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
@@ -134,19 +126,26 @@ public class RenderUtil
         GlStateManager.alphaFunc(516, 0.1F);
         GlStateManager.enableBlend();
         GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
+    }
+
+    public static void renderBatchedModel(IBakedModel model, ItemCameraTransforms.TransformType transformType, int color)
+    {
         GlStateManager.pushMatrix();
         model = net.minecraftforge.client.ForgeHooksClient.handleCameraTransforms(model, transformType, false);
         if(!model.isBuiltInRenderer())
         {
-            renderModel(model, -1);
+            renderModel(model, color);
         }
-        GlStateManager.cullFace(GlStateManager.CullFace.BACK);
         GlStateManager.popMatrix();
+    }
+
+    public static void endModelBatch()
+    {
+        GlStateManager.cullFace(GlStateManager.CullFace.BACK);
         GlStateManager.disableRescaleNormal();
         GlStateManager.disableBlend();
         Minecraft.getMinecraft().getTextureManager().bindTexture(TextureMap.LOCATION_BLOCKS_TEXTURE);
         Minecraft.getMinecraft().getTextureManager().getTexture(TextureMap.LOCATION_BLOCKS_TEXTURE).restoreLastBlurMipmap();
-        GlStateManager.popMatrix();
     }
 
     public static void renderModel(IBakedModel model, int color)
@@ -155,12 +154,15 @@ public class RenderUtil
         GlStateManager.translate(-0.5F, -0.5F, -0.5F);
         if(!model.isBuiltInRenderer())
         {
-            renderModel(model, color, ItemStack.EMPTY);
+            ModelRenderCache.render(model, color);
         }
         GlStateManager.popMatrix();
     }
 
-    private static void renderModel(IBakedModel model, int color, ItemStack stack)
+    /**
+     * Tessellates and draws the quads of a model. Used by {@link ModelRenderCache} to compile its display lists.
+     */
+    static void drawModel(IBakedModel model, int color, ItemStack stack)
     {
         Tessellator tessellator = Tessellator.getInstance();
         BufferBuilder buffer = tessellator.getBuffer();
@@ -234,11 +236,7 @@ public class RenderUtil
     {
         if(entity.hasWheels())
         {
-            ItemStack stack = new ItemStack(ModItems.WHEEL, 1, entity.getWheelType().ordinal());
-            if(!stack.isEmpty())
-            {
-                return RenderUtil.getModel(stack);
-            }
+            return PartModels.getWheel(entity.getWheelType());
         }
         return null;
     }
@@ -255,23 +253,7 @@ public class RenderUtil
     {
         if(entity.hasEngine())
         {
-            ItemStack stack = ItemStack.EMPTY;
-            switch(entity.getEngineType())
-            {
-                case SMALL_MOTOR:
-                    stack = new ItemStack(ModItems.SMALL_ENGINE, 1, entity.getEngineTier().ordinal());
-                    break;
-                case LARGE_MOTOR:
-                    stack = new ItemStack(ModItems.LARGE_ENGINE, 1, entity.getEngineTier().ordinal());
-                    break;
-                case ELECTRIC_MOTOR:
-                    stack = new ItemStack(ModItems.ELECTRIC_ENGINE, 1, entity.getEngineTier().ordinal());
-                    break;
-            }
-            if(!stack.isEmpty())
-            {
-                return RenderUtil.getModel(stack);
-            }
+            return PartModels.getEngine(entity.getEngineType(), entity.getEngineTier());
         }
         return null;
     }
@@ -0,0 +1,89 @@
+package com.mrcrayfish.vehicle.common.entity;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Author: MrCrayfish
+ */
+public class HeldVehicleDescriptorTest
+{
+    private static NBTTagCompound createTag()
+    {
+        NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("id", "vehicle:atv");
+        compound.setIntArray("color", new int[]{10, 20, 30});
+        compound.setBoolean("hasEngine", true);
+        compound.setInteger("engineTier", 2);
+        compound.setBoolean("hasWheels", false);
+        compound.setInteger("wheelType", 1);
+        compound.setInteger("wheelColor", 0x123456);
+        return compound;
+    }
+
+    private static HeldVehicleDescriptor roundTrip(HeldVehicleDescriptor descriptor)
+    {
+        ByteBuf buf = Unpooled.buffer();
+        descriptor.write(buf);
+        HeldVehicleDescriptor copy = HeldVehicleDescriptor.read(buf);
+        assertEquals(0, buf.readableBytes());
+        return copy;
+    }
+
+    @Test
+    public void testRoundTripKeepsEveryValue()
+    {
+        HeldVehicleDescriptor descriptor = HeldVehicleDescriptor.fromTag(createTag());
+        HeldVehicleDescriptor copy = roundTrip(descriptor);
+        assertEquals(descriptor, copy);
+        assertEquals("vehicle:atv", copy.getEntityId());
+    }
+
+    @Test
+    public void testRoundTripKeepsMissingValues()
+    {
+        NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("id", "vehicle:bath");
+        HeldVehicleDescriptor descriptor = HeldVehicleDescriptor.fromTag(compound);
+        assertEquals(descriptor, roundTrip(descriptor));
+
+        /* Missing values are the same as those of a new vehicle */
+        NBTTagCompound defaults = new NBTTagCompound();
+        defaults.setString("id", "vehicle:bath");
+        defaults.setIntArray("color", new int[]{0xF9, 0xFF, 0xFE});
+        defaults.setBoolean("hasWheels", true);
+        defaults.setInteger("wheelColor", -1);
+        assertEquals(HeldVehicleDescriptor.fromTag(defaults), descriptor);
+    }
+
+    @Test
+    public void testEveryValueIsWritten()
+    {
+        HeldVehicleDescriptor descriptor = HeldVehicleDescriptor.fromTag(createTag());
+        String[] keys = {"color", "hasEngine", "engineTier", "hasWheels", "wheelType", "wheelColor"};
+        for(String key : keys)
+        {
+            NBTTagCompound compound = createTag();
+            compound.removeTag(key);
+            HeldVehicleDescriptor changed = HeldVehicleDescriptor.fromTag(compound);
+            assertFalse(key, descriptor.equals(changed));
+            assertFalse(key, descriptor.equals(roundTrip(changed)));
+        }
+    }
+
+    @Test
+    public void testEncodingIsStable()
+    {
+        HeldVehicleDescriptor descriptor = HeldVehicleDescriptor.fromTag(createTag());
+        ByteBuf first = Unpooled.buffer();
+        descriptor.write(first);
+        ByteBuf second = Unpooled.buffer();
+        roundTrip(descriptor).write(second);
+        assertEquals(first, second);
+    }
+}
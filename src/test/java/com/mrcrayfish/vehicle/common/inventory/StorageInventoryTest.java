@@ -0,0 +1,146 @@
+package com.mrcrayfish.vehicle.common.inventory;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Author: MrCrayfish
+ */
+public class StorageInventoryTest
+{
+    private StorageInventory inventory;
+
+    @BeforeClass
+    public static void setUpClass()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        this.inventory = new StorageInventory("test", false, 3, null);
+    }
+
+    private ItemStack sticks(int count)
+    {
+        return new ItemStack(Items.STICK, count);
+    }
+
+    private int countInSlot(int slot)
+    {
+        return this.inventory.getStackInSlot(slot).getCount();
+    }
+
+    @Test
+    public void testMergesIntoLowestPartialStack()
+    {
+        this.inventory.setInventorySlotContents(1, this.sticks(10));
+        this.inventory.setInventorySlotContents(2, this.sticks(10));
+        assertTrue(this.inventory.addItemStack(this.sticks(60)));
+        assertEquals(0, this.countInSlot(0));
+        assertEquals(64, this.countInSlot(1));
+        assertEquals(16, this.countInSlot(2));
+    }
+
+    @Test
+    public void testFillsLowestEmptySlotWhenNothingMerges()
+    {
+        this.inventory.setInventorySlotContents(0, new ItemStack(Items.APPLE));
+        assertTrue(this.inventory.addItemStack(this.sticks(5)));
+        assertEquals(5, this.countInSlot(1));
+        assertEquals(0, this.countInSlot(2));
+    }
+
+    @Test
+    public void testStackShrunkInPlaceIsMergedInto()
+    {
+        this.inventory.addItemStack(this.sticks(64));
+        this.inventory.addItemStack(this.sticks(64));
+        this.inventory.getStackInSlot(0).shrink(10);
+        this.inventory.markDirty();
+        assertTrue(this.inventory.addItemStack(this.sticks(5)));
+        assertEquals(59, this.countInSlot(0));
+        assertEquals(0, this.countInSlot(2));
+    }
+
+    @Test
+    public void testStackEmptiedInPlaceIsReused()
+    {
+        this.inventory.addItemStack(new ItemStack(Items.APPLE, 64));
+        this.inventory.addItemStack(new ItemStack(Items.APPLE, 64));
+        this.inventory.addItemStack(new ItemStack(Items.APPLE, 64));
+        this.inventory.getStackInSlot(1).setCount(0);
+        this.inventory.markDirty();
+        assertTrue(this.inventory.addItemStack(this.sticks(5)));
+        assertEquals(5, this.countInSlot(1));
+    }
+
+    @Test
+    public void testStackGrownInPlaceIsNotOverfilled()
+    {
+        this.inventory.addItemStack(this.sticks(10));
+        this.inventory.getStackInSlot(0).setCount(64);
+        assertTrue(this.inventory.addItemStack(this.sticks(5)));
+        assertEquals(64, this.countInSlot(0));
+        assertEquals(5, this.countInSlot(1));
+    }
+
+    @Test
+    public void testRemovedStackIsReused()
+    {
+        this.inventory.addItemStack(new ItemStack(Items.APPLE, 64));
+        this.inventory.addItemStack(new ItemStack(Items.APPLE, 64));
+        this.inventory.addItemStack(new ItemStack(Items.APPLE, 64));
+        this.inventory.decrStackSize(2, 64);
+        this.inventory.removeStackFromSlot(0);
+        assertTrue(this.inventory.addItemStack(this.sticks(5)));
+        assertEquals(5, this.countInSlot(0));
+        assertEquals(0, this.countInSlot(2));
+    }
+
+    @Test
+    public void testPartialAddIsNotReportedAsAdded()
+    {
+        this.inventory.setInventorySlotContents(0, new ItemStack(Items.APPLE, 64));
+        this.inventory.setInventorySlotContents(1, new ItemStack(Items.APPLE, 64));
+        ItemStack stack = this.sticks(70);
+        assertFalse(this.inventory.addItemStack(stack));
+        assertEquals(6, stack.getCount());
+        assertEquals(64, this.countInSlot(2));
+    }
+
+    @Test
+    public void testDamagedItemsAreNotMerged()
+    {
+        ItemStack sword = new ItemStack(Items.DIAMOND_SWORD);
+        sword.setItemDamage(10);
+        this.inventory.setInventorySlotContents(0, this.sticks(1));
+        assertTrue(this.inventory.addItemStack(sword));
+        assertTrue(sword.isEmpty());
+        assertEquals(Items.DIAMOND_SWORD, this.inventory.getStackInSlot(1).getItem());
+    }
+
+    @Test
+    public void testAddItemStacksShrinksLeftovers()
+    {
+        ItemStack first = this.sticks(64);
+        ItemStack second = new ItemStack(Items.APPLE, 64);
+        ItemStack third = this.sticks(70);
+        assertFalse(this.inventory.addItemStacks(Arrays.asList(first, second, third)));
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        assertEquals(6, third.getCount());
+        assertEquals(64, this.countInSlot(2));
+    }
+}
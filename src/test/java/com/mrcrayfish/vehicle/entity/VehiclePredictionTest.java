@@ -0,0 +1,88 @@
+package com.mrcrayfish.vehicle.entity;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Author: MrCrayfish
+ */
+public class VehiclePredictionTest
+{
+    private static final float DELTA = 0.0001F;
+    private static final DriveInput INPUT = new DriveInput(true, true, EntityPoweredVehicle.AccelerationDirection.FORWARD, false, 1.0F, 1.0F, true);
+
+    /* Accelerates by one each tick up to a max speed of ten */
+    private static final VehiclePrediction.Stepper STEPPER = (speed, input) -> Math.min(speed + 1.0F, 10.0F);
+
+    private VehiclePrediction prediction;
+
+    @Before
+    public void setUp()
+    {
+        this.prediction = new VehiclePrediction();
+    }
+
+    private void record(int sequence, float startSpeed)
+    {
+        float stepSpeed = STEPPER.getNextSpeed(startSpeed, INPUT);
+        this.prediction.record(sequence, INPUT, startSpeed, stepSpeed, stepSpeed);
+    }
+
+    @Test
+    public void testCorrectPredictionIsKept()
+    {
+        this.record(1, 0.0F);
+        this.record(1, 1.0F);
+        this.record(2, 2.0F);
+        assertEquals(0.0F, this.prediction.reconcile(STEPPER, 1, 1.0F), DELTA);
+        assertEquals(3, this.prediction.size());
+    }
+
+    @Test
+    public void testMismatchIsCarriedThroughLaterTicks()
+    {
+        this.record(1, 0.0F);
+        this.record(1, 1.0F);
+        this.record(2, 2.0F);
+        assertEquals(0.5F, this.prediction.reconcile(STEPPER, 1, 1.5F), DELTA);
+    }
+
+    @Test
+    public void testChangesBetweenTicksAreKept()
+    {
+        /* The second tick starts at eight because of a boost pad at the end of the first tick */
+        this.record(1, 0.0F);
+        this.prediction.record(1, INPUT, 8.0F, 9.0F, 9.0F);
+        assertEquals(-0.5F, this.prediction.reconcile(STEPPER, 1, 0.5F), DELTA);
+    }
+
+    @Test
+    public void testDifferenceIsLostAtMaxSpeed()
+    {
+        this.record(1, 8.0F);
+        this.record(1, 9.0F);
+        this.record(1, 10.0F);
+        assertEquals(0.0F, this.prediction.reconcile(STEPPER, 1, 9.5F), DELTA);
+    }
+
+    @Test
+    public void testOlderTicksAreDropped()
+    {
+        this.record(1, 0.0F);
+        this.record(2, 1.0F);
+        this.record(3, 2.0F);
+        this.prediction.reconcile(STEPPER, 2, 2.0F);
+        assertEquals(2, this.prediction.size());
+    }
+
+    @Test
+    public void testUnknownSequenceIsIgnored()
+    {
+        this.record(1, 0.0F);
+        this.record(2, 1.0F);
+        assertEquals(0.0F, this.prediction.reconcile(STEPPER, 5, 4.0F), DELTA);
+        assertEquals(2, this.prediction.size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.mrcrayfish.vehicle.network;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Author: MrCrayfish
+ */
+public class SyncQueueTest
+{
+    private Set<String> disconnected;
+    private Map<String, Integer> receivers;
+    private List<String> sent;
+    private SyncQueue.Pending<String> pending;
+
+    @Before
+    public void setUp()
+    {
+        this.disconnected = new HashSet<>();
+        this.receivers = new HashMap<>();
+        this.sent = new ArrayList<>();
+        this.pending = new SyncQueue.Pending<>(entity -> !this.disconnected.contains(entity), entity ->
+        {
+            this.sent.add(entity);
+            return this.receivers.getOrDefault(entity, 1);
+        });
+    }
+
+    @Test
+    public void testRepeatedUpdatesAreSentOncePerTick()
+    {
+        this.pending.add("a");
+        this.pending.add("a");
+        this.pending.add("a");
+        this.pending.flush();
+        assertEquals(Arrays.asList("a"), this.sent);
+        assertEquals(3, this.pending.getQueuedCount());
+        assertEquals(2, this.pending.getMergedCount());
+        assertEquals(1, this.pending.getSentCount());
+    }
+
+    @Test
+    public void testEntitiesAreSentInTheOrderFirstQueued()
+    {
+        this.pending.add("b");
+        this.pending.add("a");
+        this.pending.add("b");
+        this.pending.add("c");
+        this.pending.flush();
+        assertEquals(Arrays.asList("b", "a", "c"), this.sent);
+        assertEquals(1, this.pending.getMergedCount());
+    }
+
+    @Test
+    public void testSentCountIncludesEveryReceiver()
+    {
+        this.receivers.put("a", 3);
+        this.receivers.put("b", 0);
+        this.pending.add("a");
+        this.pending.add("a");
+        this.pending.add("b");
+        this.pending.flush();
+        assertEquals(3, this.pending.getSentCount());
+        this.pending.add("a");
+        this.pending.flush();
+        assertEquals(6, this.pending.getSentCount());
+    }
+
+    @Test
+    public void testEntitiesThatCanNoLongerBeSyncedAreSkipped()
+    {
+        this.disconnected.add("b");
+        this.pending.add("a");
+        this.pending.add("b");
+        this.pending.add("c");
+        this.pending.flush();
+        assertEquals(Arrays.asList("a", "c"), this.sent);
+        assertEquals(2, this.pending.getSentCount());
+
+        /* A skipped entity isn't kept for the next tick */
+        this.disconnected.clear();
+        this.sent.clear();
+        this.pending.flush();
+        assertTrue(this.sent.isEmpty());
+    }
+
+    @Test
+    public void testFlushEmptiesTheQueue()
+    {
+        this.pending.add("a");
+        this.pending.flush();
+        this.sent.clear();
+        this.pending.flush();
+        assertTrue(this.sent.isEmpty());
+        assertEquals(1, this.pending.getSentCount());
+    }
+
+    @Test
+    public void testUpdatesAreOnlyMergedWithinATick()
+    {
+        this.pending.add("a");
+        this.pending.flush();
+        this.pending.add("a");
+        this.pending.flush();
+        assertEquals(Arrays.asList("a", "a"), this.sent);
+        assertEquals(0, this.pending.getMergedCount());
+        assertEquals(2, this.pending.getSentCount());
+    }
+}